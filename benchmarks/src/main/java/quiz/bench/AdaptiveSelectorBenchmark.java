@@ -0,0 +1,89 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.AdaptiveSelector;
+import quiz.Question;
+import quiz.Quiz;
+import quiz.QuizSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares picking the next adaptive question through the difficulty-ordered skip list
+ * with a linear scan over every question of the bank, for banks of growing size.
+ * Also measures the cost of feeding a graded answer back into the estimates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdaptiveSelectorBenchmark {
+    private static final int ATTEMPT_LENGTH = 20;
+    private static final int ANSWERED = 10;
+    private static final List<String> OPTIONS = List.of("A", "B", "C", "D");
+
+    @Param({"1000", "100000", "1000000"})
+    public int bankSize;
+
+    private AdaptiveSelector selector;
+    private QuizSession session;
+
+    @Setup
+    public void setUp() {
+        List<Question> questions = new ArrayList<>(bankSize);
+        double[] difficulties = new double[bankSize];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < bankSize; i++) {
+            questions.add(new Question("Question " + i, OPTIONS, i & 3, ""));
+            // Roughly normal difficulties around the average
+            difficulties[i] = random.nextDouble() + random.nextDouble() + random.nextDouble() - 1.5;
+        }
+        Quiz bank = Quiz.of("bench", questions);
+        selector = new AdaptiveSelector(bank, ATTEMPT_LENGTH, difficulties);
+
+        // A session halfway through, answering about two thirds correctly
+        session = selector.newSession(bank);
+        for (int i = 0; i < ANSWERED; i++) {
+            session.select(selector.next(session));
+            Question question = session.currentQuestion();
+            session.answer(i % 3 == 0 ? (question.getCorrectAnswerIndex() + 1) % 4 : question.getCorrectAnswerIndex());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public int skipListPick() {
+        return selector.next(session);
+    }
+
+    @Benchmark
+    public int linearScanPick() {
+        double target = selector.getAbility(session);
+        int best = -1;
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < bankSize; i++) {
+            double distance = Math.abs(selector.getDifficulty(i) - target);
+            if (distance < bestDistance && !session.hasAsked(i)) {
+                best = i;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public double graded(ThreadState state) {
+        int questionIndex = state.random.nextInt(bankSize);
+        selector.graded(session, questionIndex, state.random.nextBoolean());
+        return selector.getDifficulty(questionIndex);
+    }
+}
@@ -0,0 +1,63 @@
+package quiz.bench;
+
+import quiz.AnswerSheet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory benchmark comparing packed AnswerSheets with boxed answer lists holding the same
+ * answer values. The boxed answers all come from the Integer cache, so the lists pay only for
+ * their references and backing arrays.
+ * Run with a large heap, e.g. {@code java -Xmx2g -cp benchmarks.jar quiz.bench.AnswerSheetFootprint}.
+ */
+public class AnswerSheetFootprint {
+    private static final int SHEETS = 1_000_000;
+    private static final int QUESTIONS = 100;
+    // Boxed lists are measured on a sample and extrapolated; 1M of them would need ~500 MB
+    private static final int BOXED_SAMPLE = 20_000;
+
+    public static void main(String[] args) {
+        System.out.println("Answer storage for " + SHEETS + " sheets × " + QUESTIONS + " questions\n");
+
+        long before = usedHeap();
+        AnswerSheet[] sheets = new AnswerSheet[SHEETS];
+        for (int s = 0; s < SHEETS; s++) {
+            AnswerSheet sheet = new AnswerSheet(QUESTIONS);
+            for (int q = 0; q < QUESTIONS; q++) {
+                sheet.set(q, (s + q) & 3);
+            }
+            sheets[s] = sheet;
+        }
+        long packedBytes = usedHeap() - before;
+        report("AnswerSheet (packed)", packedBytes, (long) SHEETS * QUESTIONS);
+
+        before = usedHeap();
+        List<List<Integer>> boxed = new ArrayList<>(BOXED_SAMPLE);
+        for (int s = 0; s < BOXED_SAMPLE; s++) {
+            List<Integer> answers = new ArrayList<>();
+            for (int q = 0; q < QUESTIONS; q++) {
+                // Real answers are 0..3, so boxing them reuses the cached Integers
+                answers.add(Integer.valueOf((s + q) & 3));
+            }
+            boxed.add(answers);
+        }
+        long boxedBytes = usedHeap() - before;
+        report("List<Integer> (boxed)", boxedBytes, (long) BOXED_SAMPLE * QUESTIONS);
+
+        // Keep both data sets reachable until after they were measured
+        System.out.println("\n(checksum " + (sheets[SHEETS - 1].get(0) + boxed.get(0).get(0)) + ")");
+    }
+
+    private static void report(String label, long bytes, long answers) {
+        System.out.printf("%-24s %,14d bytes  %6.2f bytes/answer%n", label, bytes, (double) bytes / answers);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,24 @@
+package quiz.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * Accepts the usual JMH command line and always enables the GC profiler,
+ * so every run reports allocation rate and bytes allocated per operation.
+ *
+ * <pre>java -jar benchmarks/target/benchmarks.jar [JMH options] [benchmark regex]</pre>
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,37 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.GameUI;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a question screen with the console redirected to a null sink.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameUIBenchmark {
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void displayQuestion() {
+        GameUI.displayQuestion("Which collection maintains insertion order and allows duplicates?", 3, 8);
+    }
+}
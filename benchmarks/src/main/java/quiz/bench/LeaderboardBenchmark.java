@@ -0,0 +1,70 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.Leaderboard;
+import quiz.QuizResult;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a leaderboard under mixed load: two threads keep offering results while
+ * four threads read the top ten and two look up player ranks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class LeaderboardBenchmark {
+    private static final int PLAYERS = 10_000;
+    private static final int PREBUILT_RESULTS = 4096;
+
+    @Param({"100", "10000"})
+    public int capacity;
+
+    private Leaderboard board;
+    private QuizResult[] results;
+
+    @Setup
+    public void setUp() {
+        board = new Leaderboard(capacity);
+        results = new QuizResult[PREBUILT_RESULTS];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new QuizResult("beginner", "player" + random.nextInt(PLAYERS), 20,
+                    random.nextInt(21), random.nextInt(600));
+        }
+        for (int i = 0; i < capacity; i++) {
+            board.offer(results[i % results.length]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public boolean offer(ThreadState state) {
+        return board.offer(results[state.random.nextInt(results.length)]);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public List<QuizResult> top10() {
+        return board.top(10);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int rankOf(ThreadState state) {
+        return board.rankOf("player" + state.random.nextInt(PLAYERS));
+    }
+}
@@ -0,0 +1,254 @@
+package quiz.bench;
+
+import quiz.Animation;
+import quiz.Frame;
+import quiz.GameUI;
+import quiz.LatencyHistogram;
+import quiz.Question;
+import quiz.QuizApplication;
+import quiz.QuizRepository;
+import quiz.Renderer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load generator that drives the real interactive QuizApplication with simulated players.
+ * Every player runs on its own thread with its own renderer, which keeps the full screen output
+ * but only counts its bytes. Players type a scripted session (main menu, quest choice, name,
+ * answers, "no", exit) with a configurable share of correct answers and think time per input.
+ *
+ * Reports sessions per second, the latency of every step measured from the moment a line is
+ * typed until the application asks for the next one, and the allocation rate of the player threads.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.LoadGenerator [players] [sessionsPerPlayer] [thinkMillis] [accuracy] [quest]</pre>
+ *
+ * quest is the number chosen on the quest selection screen: 1 beginner, 2 programming, 3 advanced, 4 oop.
+ */
+public class LoadGenerator {
+    private static final String[] QUEST_IDS = {"beginner", "programming", "advanced", "oop"};
+    private static final String[] STEPS = {"menu", "quest", "name", "answer", "again", "exit"};
+
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int sessionsPerPlayer = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        long thinkMillis = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        double accuracy = args.length > 3 ? Double.parseDouble(args[3]) : 0.7;
+        int quest = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+        List<Question> questions = QuizRepository.getTemplate(QUEST_IDS[quest - 1]);
+
+        Map<String, LatencyHistogram> stepLatencies = new LinkedHashMap<>();
+        for (String step : STEPS) {
+            stepLatencies.put(step, new LatencyHistogram());
+        }
+        LatencyHistogram sessionLatencies = new LatencyHistogram();
+        AtomicLong outputBytes = new AtomicLong();
+        AtomicLong correctAnswers = new AtomicLong();
+        AtomicLong totalAnswers = new AtomicLong();
+        long[] allocatedBytes = new long[players];
+
+        System.out.printf("Load: %,d players x %,d sessions of quest %d (%s), think %d ms, accuracy %.0f%%%n%n",
+                players, sessionsPerPlayer, quest, QUEST_IDS[quest - 1], thinkMillis, accuracy * 100);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CountDownLatch ready = new CountDownLatch(players);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(players);
+        for (int p = 0; p < players; p++) {
+            int player = p;
+            Thread thread = new Thread(() -> {
+                CountingRenderer renderer = new CountingRenderer();
+                GameUI.setRendererForCurrentThread(renderer);
+                SplittableRandom random = new SplittableRandom(player);
+                ready.countDown();
+                try {
+                    go.await();
+                    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                    for (int s = 0; s < sessionsPerPlayer; s++) {
+                        List<ScriptedInput.Line> script = new ArrayList<>();
+                        script.add(new ScriptedInput.Line("menu", "1"));
+                        script.add(new ScriptedInput.Line("quest", String.valueOf(quest)));
+                        script.add(new ScriptedInput.Line("name", "player" + player));
+                        for (Question question : questions) {
+                            int choice = question.getCorrectAnswerIndex();
+                            if (random.nextDouble() >= accuracy) {
+                                choice = (choice + 1 + random.nextInt(question.getNumberOfOptions() - 1))
+                                        % question.getNumberOfOptions();
+                            }
+                            script.add(new ScriptedInput.Line("answer", String.valueOf(choice + 1)));
+                        }
+                        script.add(new ScriptedInput.Line("again", "no"));
+                        script.add(new ScriptedInput.Line("exit", "4"));
+
+                        ScriptedInput input = new ScriptedInput(script, thinkMillis, random, stepLatencies);
+                        long start = System.nanoTime();
+                        QuizApplication app = new QuizApplication(new Scanner(input), "none");
+                        app.run();
+                        input.finish();
+                        sessionLatencies.record(System.nanoTime() - start);
+                        correctAnswers.addAndGet(app.getStatistics().getOverall().getCorrectAnswers());
+                        totalAnswers.addAndGet(app.getStatistics().getOverall().getTotalQuestions());
+                    }
+                    allocatedBytes[player] = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    outputBytes.addAndGet(renderer.bytes.get());
+                    done.countDown();
+                }
+            }, "player-" + p);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long sessions = (long) players * sessionsPerPlayer;
+        long allocated = 0;
+        for (long bytes : allocatedBytes) {
+            allocated += bytes;
+        }
+
+        System.out.printf("%-8s %10s %12s %12s %12s%n", "step", "count", "p50 µs", "p99 µs", "max µs");
+        for (Map.Entry<String, LatencyHistogram> entry : stepLatencies.entrySet()) {
+            print(entry.getKey(), entry.getValue());
+        }
+        print("session", sessionLatencies);
+
+        System.out.printf("%nSessions:        %,d in %.2f s (%,.0f sessions/sec)%n", sessions, seconds, sessions / seconds);
+        System.out.printf("Answer accuracy: %.1f%%%n", totalAnswers.get() == 0 ? 0 : correctAnswers.get() * 100.0 / totalAnswers.get());
+        System.out.printf("Screen output:   %,.1f KB per session%n", outputBytes.get() / 1024.0 / sessions);
+        System.out.printf("Allocation:      %,.1f MB/s, %,.1f KB per session%n",
+                allocated / 1e6 / seconds, allocated / 1024.0 / sessions);
+    }
+
+    private static void print(String label, LatencyHistogram histogram) {
+        System.out.printf("%-8s %,10d %,12.1f %,12.1f %,12.1f%n", label, histogram.getCount(),
+                histogram.getPercentileNanos(50) / 1e3, histogram.getPercentileNanos(99) / 1e3,
+                histogram.getMaxNanos() / 1e3);
+    }
+
+    /**
+     * Types a script one line per read, pausing for think time first. The time between handing
+     * out a line and the application asking for more is recorded as that line's step latency.
+     */
+    private static final class ScriptedInput extends Reader {
+        record Line(String step, String text) {
+        }
+
+        private final List<Line> lines;
+        private final long thinkMillis;
+        private final SplittableRandom random;
+        private final Map<String, LatencyHistogram> stepLatencies;
+        private int next;
+        private String pendingStep;
+        private long deliveredNanos;
+
+        ScriptedInput(List<Line> lines, long thinkMillis, SplittableRandom random,
+                      Map<String, LatencyHistogram> stepLatencies) {
+            this.lines = lines;
+            this.thinkMillis = thinkMillis;
+            this.random = random;
+            this.stepLatencies = stepLatencies;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            finish();
+            if (next >= lines.size()) {
+                return -1;
+            }
+            if (thinkMillis > 0) {
+                // Exponentially distributed think time around the configured mean
+                long think = (long) (-Math.log(1 - random.nextDouble()) * thinkMillis);
+                try {
+                    Thread.sleep(think);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Line line = lines.get(next++);
+            String text = line.text() + "\n";
+            int count = Math.min(length, text.length());
+            text.getChars(0, count, buffer, offset);
+            pendingStep = line.step();
+            deliveredNanos = System.nanoTime();
+            return count;
+        }
+
+        /**
+         * Records the latency of the last delivered line, if not recorded yet.
+         */
+        void finish() {
+            if (pendingStep != null) {
+                stepLatencies.get(pendingStep).record(System.nanoTime() - deliveredNanos);
+                pendingStep = null;
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Keeps the full screen output of one player but only counts its bytes.
+     * Animations are written at once and delays complete immediately.
+     */
+    private static final class CountingRenderer implements Renderer {
+        private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+        final AtomicLong bytes = new AtomicLong();
+        private final PrintStream out = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                bytes.addAndGet(length);
+            }
+        });
+
+        @Override
+        public void render(Frame frame) {
+            frame.writeTo(out);
+        }
+
+        @Override
+        public CompletableFuture<Void> play(Animation animation) {
+            Frame frame = Frame.begin();
+            for (int i = 0; i < animation.size(); i++) {
+                frame.append(animation.getText(i));
+            }
+            render(frame);
+            return DONE;
+        }
+
+        @Override
+        public CompletableFuture<Void> delay(long milliseconds) {
+            return DONE;
+        }
+
+        @Override
+        public void clearScreen() {
+            render(Frame.begin().append("\033[H\033[2J"));
+        }
+    }
+}
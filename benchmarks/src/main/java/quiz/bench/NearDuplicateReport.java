@@ -0,0 +1,96 @@
+package quiz.bench;
+
+import quiz.NearDuplicateDetector;
+import quiz.Question;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Speed and recall report for near-duplicate detection.
+ * Generates a bank of distinct questions, plants reworded copies of 1% of them (one word
+ * replaced and the options reordered), runs the detector and checks how many plants were
+ * clustered with their original. The cost of comparing every pair is extrapolated from a sample.
+ *
+ * <pre>java -Xmx4g -cp benchmarks.jar quiz.bench.NearDuplicateReport [questions]</pre>
+ */
+public class NearDuplicateReport {
+    private static final double PLANTED_SHARE = 0.01;
+    private static final int PAIRWISE_SAMPLE = 2_000_000;
+
+    public static void main(String[] args) {
+        int questionCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        SplittableRandom random = new SplittableRandom(7);
+        String[] words = QuestionIndexReport.vocabulary(random);
+        double[] cumulative = QuestionIndexReport.zipf();
+
+        int planted = (int) (questionCount * PLANTED_SHARE);
+        List<Question> bank = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount - planted; i++) {
+            bank.add(QuestionIndexReport.generate(random, words, cumulative));
+        }
+        // Planted copies go at the end of the bank, mapped to the index of their original
+        Map<Integer, Integer> originals = new HashMap<>();
+        for (int i = 0; i < planted; i++) {
+            int original = random.nextInt(questionCount - planted);
+            originals.put(bank.size(), original);
+            bank.add(reword(bank.get(original), random, words));
+        }
+        System.out.printf("Bank: %,d questions with %,d planted rewordings, %d cores%n%n",
+                bank.size(), planted, Runtime.getRuntime().availableProcessors());
+
+        long start = System.nanoTime();
+        List<NearDuplicateDetector.Cluster> clusters = new NearDuplicateDetector().findClusters(bank);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int[] clusterOf = new int[bank.size()];
+        Arrays.fill(clusterOf, -1);
+        long clustered = 0;
+        for (int c = 0; c < clusters.size(); c++) {
+            for (int member : clusters.get(c).getMembers()) {
+                clusterOf[member] = c;
+                clustered++;
+            }
+        }
+        int found = 0;
+        for (Map.Entry<Integer, Integer> plant : originals.entrySet()) {
+            if (clusterOf[plant.getKey()] >= 0 && clusterOf[plant.getKey()] == clusterOf[plant.getValue()]) {
+                found++;
+            }
+        }
+
+        // Pairwise baseline: time signature comparisons on a sample and scale to n(n-1)/2 pairs
+        int[][] sample = new int[1_000][];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = NearDuplicateDetector.signature(bank.get(random.nextInt(bank.size())));
+        }
+        double checksum = 0;
+        long pairStart = System.nanoTime();
+        for (int p = 0; p < PAIRWISE_SAMPLE; p++) {
+            checksum += NearDuplicateDetector.estimateSimilarity(sample[p % sample.length], sample[(p * 7 + 1) % sample.length]);
+        }
+        double nanosPerPair = (System.nanoTime() - pairStart) / (double) PAIRWISE_SAMPLE;
+        double pairs = (double) bank.size() * (bank.size() - 1) / 2;
+
+        System.out.printf("MinHash/LSH:       %.1f s, %,d clusters holding %,d questions%n", seconds, clusters.size(), clustered);
+        System.out.printf("Planted recall:    %,d of %,d (%.1f%%)%n", found, planted, found * 100.0 / planted);
+        System.out.printf("Pairwise estimate: %,.0f pairs x %.0f ns = %.1f hours on one core (checksum %.0f)%n",
+                pairs, nanosPerPair, pairs * nanosPerPair / 3.6e12, checksum);
+    }
+
+    /**
+     * Copies a question with one word of its text replaced and its options rotated.
+     */
+    private static Question reword(Question question, SplittableRandom random, String[] words) {
+        String[] text = question.getQuestionText().split(" ");
+        text[random.nextInt(text.length)] = words[random.nextInt(words.length)];
+        List<String> options = new ArrayList<>(question.getOptions());
+        options.add(options.remove(0));
+        int correct = (question.getCorrectAnswerIndex() + options.size() - 1) % options.size();
+        return new Question(String.join(" ", text), options, correct, question.getExplanation());
+    }
+}
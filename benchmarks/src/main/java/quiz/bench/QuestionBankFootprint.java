@@ -0,0 +1,135 @@
+package quiz.bench;
+
+import quiz.ExplanationStore;
+import quiz.Question;
+import quiz.StringTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Heap footprint of a question bank held as plain Strings against the same bank
+ * dictionary-encoded into a StringTable, and encoded with its explanations in an
+ * ExplanationStore segment file, plus the cost of decoding a question for display.
+ * The bank mimics an imported one: unique question texts, a third true/false questions,
+ * options drawn from a pool of common answers, and half the explanations repeated from a
+ * few thousand templates while the other half are written for their question. Every string is a fresh instance, as a loader parsing a file creates.
+ *
+ * <pre>java -Xmx4g -cp benchmarks.jar quiz.bench.QuestionBankFootprint [questions] [segmentDirectory]</pre>
+ */
+public class QuestionBankFootprint {
+    private static final int COMMON_ANSWERS = 5_000;
+    private static final int EXPLANATIONS = 2_000;
+
+    public static void main(String[] args) throws IOException {
+        int questionCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path segmentDirectory = Paths.get(args.length > 1 ? args[1] : System.getProperty("java.io.tmpdir"));
+        SplittableRandom random = new SplittableRandom(11);
+        String[] words = QuestionIndexReport.vocabulary(random);
+        double[] cumulative = QuestionIndexReport.zipf();
+        String[] answers = new String[COMMON_ANSWERS];
+        for (int i = 0; i < answers.length; i++) {
+            answers[i] = QuestionIndexReport.generate(random, words, cumulative).getOption(0);
+        }
+        String[] explanations = new String[EXPLANATIONS];
+        for (int i = 0; i < explanations.length; i++) {
+            explanations[i] = QuestionIndexReport.generate(random, words, cumulative).getExplanation();
+        }
+
+        long before = usedHeap();
+        List<Question> plain = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            plain.add(generate(random, words, cumulative, answers, explanations));
+        }
+        long plainBytes = usedHeap() - before;
+        System.out.printf("Bank: %,d questions%n%n", questionCount);
+        System.out.printf("Plain strings:  %,d bytes (%,.0f bytes/question)%n", plainBytes, (double) plainBytes / questionCount);
+
+        StringTable strings = new StringTable();
+        List<Question> encoded = encode(plain, strings, null);
+        long bothBytes = usedHeap() - before;
+        System.out.printf("Encoded:        %,d bytes (%,.0f bytes/question), %,d distinct strings in %,d bytes of UTF-8%n",
+                bothBytes - plainBytes, (double) (bothBytes - plainBytes) / questionCount, strings.size(), strings.getByteCount());
+
+        try (ExplanationStore segment = ExplanationStore.createTemporary(segmentDirectory, ExplanationStore.DEFAULT_CACHE_SIZE)) {
+            StringTable onDiskStrings = new StringTable();
+            List<Question> onDisk = encode(plain, onDiskStrings, segment);
+            plain = null;
+            long allBytes = usedHeap() - before;
+            long onDiskBytes = allBytes - (bothBytes - plainBytes);
+            System.out.printf("On disk:        %,d bytes (%,.0f bytes/question), %,d bytes of explanations in the segment%n",
+                    onDiskBytes, (double) onDiskBytes / questionCount, segment.getByteCount());
+            System.out.printf("Saved:          %.1f%% encoded, %.1f%% with explanations on disk%n%n",
+                    100.0 - (bothBytes - plainBytes) * 100.0 / plainBytes, 100.0 - onDiskBytes * 100.0 / plainBytes);
+
+            // Reading explanations of random questions: almost every read misses the cache
+            SplittableRandom order = new SplittableRandom(5);
+            long characters = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < 100_000; i++) {
+                characters += onDisk.get(order.nextInt(questionCount)).getExplanation().length();
+            }
+            System.out.printf("Explanation read from the segment: %.0f ns, %,d cache hits, %,d misses (%,d characters)%n%n",
+                    (System.nanoTime() - start) / 100_000.0, segment.getHits(), segment.getMisses(), characters);
+        }
+
+        // Decoding cost: read everything a question screen shows
+        long characters = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (Question question : encoded) {
+                characters += question.getQuestionText().length() + question.getExplanation().length();
+                for (String option : question.getOptions()) {
+                    characters += option.length();
+                }
+            }
+            System.out.printf("Decode round %d: %.0f ns/question%n", round + 1, (System.nanoTime() - start) / (double) questionCount);
+        }
+        System.out.printf("(%,d characters decoded)%n", characters);
+    }
+
+    private static List<Question> encode(List<Question> plain, StringTable strings, ExplanationStore explanations) {
+        List<Question> encoded = new ArrayList<>(plain.size());
+        for (Question question : plain) {
+            encoded.add(question.encode(strings, explanations));
+        }
+        strings.trimToSize();
+        return encoded;
+    }
+
+    private static Question generate(SplittableRandom random, String[] words, double[] cumulative,
+                                     String[] answers, String[] explanations) {
+        Question source = QuestionIndexReport.generate(random, words, cumulative);
+        String text = source.getQuestionText();
+        String explanation = random.nextBoolean() ? source.getExplanation()
+                : parsed(explanations[random.nextInt(explanations.length)]);
+        if (random.nextInt(3) == 0) {
+            return new Question(text, List.of(parsed("True"), parsed("False")), random.nextInt(2), explanation);
+        }
+        List<String> options = new ArrayList<>(4);
+        for (int o = 0; o < 3; o++) {
+            options.add(parsed(answers[random.nextInt(answers.length)]));
+        }
+        options.add(parsed(random.nextBoolean() ? "All of the above" : "None of the above"));
+        return new Question(text, options, random.nextInt(4), explanation);
+    }
+
+    /**
+     * Copies a string into new storage, as parsing it from a file would.
+     */
+    private static String parsed(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,91 @@
+package quiz.bench;
+
+import quiz.QuestionBankLoader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-time and heap report for streaming a large question bank.
+ * Generates 1M-question NDJSON and CSV banks (or uses the given files) and streams them
+ * into a counting consumer. Run with a small heap, e.g. -Xmx64m, to check that memory stays flat.
+ *
+ * <pre>java -Xmx64m -cp benchmarks.jar quiz.bench.QuestionBankLoadReport [questions | file...]</pre>
+ */
+public class QuestionBankLoadReport {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && !args[0].matches("\\d+")) {
+            for (String file : args) {
+                report(Path.of(file));
+            }
+            return;
+        }
+
+        int questions = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path ndjson = Files.createTempFile("bank", ".ndjson");
+        Path csv = Files.createTempFile("bank", ".csv");
+        try {
+            generate(ndjson, csv, questions);
+            report(ndjson);
+            report(csv);
+        } finally {
+            Files.deleteIfExists(ndjson);
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    private static void report(Path file) throws IOException {
+        resetPeakHeap();
+        AtomicLong optionCount = new AtomicLong();
+        long start = System.nanoTime();
+        long count = QuestionBankLoader.stream(file, question -> optionCount.addAndGet(question.getNumberOfOptions()));
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%-8s %,12d questions  %,8.1f MB  %6.2f s  %,10.0f questions/sec  peak heap %,6.1f MB%n",
+                QuestionBankLoader.Format.forPath(file), count, Files.size(file) / 1e6, seconds,
+                count / seconds, peakHeap() / 1e6);
+    }
+
+    static void generate(Path ndjson, Path csv, int questions) throws IOException {
+        try (BufferedWriter json = Files.newBufferedWriter(ndjson, StandardCharsets.UTF_8);
+             BufferedWriter table = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            table.write("question,correctAnswerIndex,explanation,option1,option2,option3,option4\n");
+            for (int i = 0; i < questions; i++) {
+                int answer = i & 3;
+                json.write("{\"question\": \"Generated question " + i + ": which \\\"option\\\" is right?\", "
+                        + "\"options\": [\"Option A" + i + "\", \"Option B\", \"All of the above\", \"None of the above\"], "
+                        + "\"correctAnswerIndex\": " + answer + ", "
+                        + "\"explanation\": \"Option " + (char) ('A' + answer) + " is right for question " + i + ".\"}\n");
+                table.write("\"Generated question " + i + ", which \"\"option\"\" is right?\"," + answer
+                        + ",Option " + (char) ('A' + answer) + " is right for question " + i
+                        + ".,Option A" + i + ",Option B,All of the above,None of the above\n");
+            }
+        }
+    }
+
+    private static void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
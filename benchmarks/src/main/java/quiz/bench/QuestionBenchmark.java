@@ -0,0 +1,43 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.Question;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-question accessors used on every question asked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionBenchmark {
+    private Question question;
+    private int answer;
+
+    @Setup
+    public void setUp() {
+        question = new Question(
+                "What's the best way to iterate through a List in Java?",
+                Arrays.asList("Traditional for loop", "Enhanced for loop", "Iterator", "All of the above"),
+                3,
+                "All three methods work! Enhanced for loop is the most concise, Iterator is useful for removal."
+        );
+        answer = 2;
+    }
+
+    @Benchmark
+    public List<String> getOptions() {
+        return question.getOptions();
+    }
+
+    @Benchmark
+    public boolean isCorrect() {
+        return question.isCorrect(answer);
+    }
+}
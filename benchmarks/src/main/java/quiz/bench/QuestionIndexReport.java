@@ -0,0 +1,148 @@
+package quiz.bench;
+
+import quiz.LatencyHistogram;
+import quiz.Question;
+import quiz.QuestionIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Build and query-latency report for the question search index.
+ * Indexes a generated bank whose words follow a Zipf distribution, like natural text,
+ * then times AND, OR and phrase queries and incremental additions to the full index.
+ *
+ * <pre>java -Xmx4g -cp benchmarks.jar quiz.bench.QuestionIndexReport [questions]</pre>
+ */
+public class QuestionIndexReport {
+    private static final int VOCABULARY = 50_000;
+    private static final int QUERIES = 2_000;
+    private static final int INCREMENTAL_ADDS = 10_000;
+
+    public static void main(String[] args) {
+        int questionCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = vocabulary(random);
+        double[] cumulative = zipf();
+
+        long before = usedHeap();
+        long start = System.nanoTime();
+        QuestionIndex index = new QuestionIndex();
+        for (int i = 0; i < questionCount; i++) {
+            index.add(generate(random, words, cumulative));
+        }
+        double buildSeconds = (System.nanoTime() - start) / 1e9;
+        long indexBytes = usedHeap() - before;
+        System.out.printf("Indexed %,d questions, %,d terms in %.2f s (%,.0f questions/sec), heap with questions %,.0f MB%n%n",
+                index.size(), index.getTermCount(), buildSeconds, index.size() / buildSeconds, indexBytes / 1e6);
+
+        System.out.printf("%-22s %8s %12s %12s %12s %10s%n", "query", "count", "p50 µs", "p99 µs", "max µs", "avg hits");
+        // Mid-frequency words are what authors type; the most common ones match most of the bank
+        measure("AND (2 words)", index, () -> word(random, words, 100, 5_000) + " " + word(random, words, 100, 5_000));
+        measure("AND (3 words)", index, () -> word(random, words, 20, 2_000) + " " + word(random, words, 20, 2_000)
+                + " " + word(random, words, 20, 2_000));
+        measure("OR (2 rare words)", index, () -> word(random, words, 5_000, VOCABULARY) + " OR "
+                + word(random, words, 5_000, VOCABULARY));
+        measure("phrase (3 words)", index, () -> {
+            List<String> terms = QuestionIndex.tokenize(index.get(random.nextInt(index.size())).getQuestionText());
+            int from = random.nextInt(terms.size() - 2);
+            return "\"" + String.join(" ", terms.subList(from, from + 3)) + "\"";
+        });
+
+        start = System.nanoTime();
+        for (int i = 0; i < INCREMENTAL_ADDS; i++) {
+            index.add(generate(random, words, cumulative));
+        }
+        double addMicros = (System.nanoTime() - start) / 1e3 / INCREMENTAL_ADDS;
+        System.out.printf("%nIncremental add: %.1f µs per question into an index of %,d%n", addMicros, index.size());
+    }
+
+    private static void measure(String label, QuestionIndex index, Supplier<String> queries) {
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            batch.add(queries.get());
+        }
+        // Warm up the query paths before timing them
+        for (String query : batch) {
+            index.search(query, 10);
+        }
+        LatencyHistogram latencies = new LatencyHistogram();
+        long hits = 0;
+        for (String query : batch) {
+            long start = System.nanoTime();
+            hits += index.search(query, 10).size();
+            latencies.record(System.nanoTime() - start);
+        }
+        System.out.printf("%-22s %,8d %,12.1f %,12.1f %,12.1f %10.1f%n", label, latencies.getCount(),
+                latencies.getPercentileNanos(50) / 1e3, latencies.getPercentileNanos(99) / 1e3,
+                latencies.getMaxNanos() / 1e3, (double) hits / QUERIES);
+    }
+
+    static Question generate(SplittableRandom random, String[] words, double[] cumulative) {
+        List<String> options = new ArrayList<>(4);
+        for (int o = 0; o < 4; o++) {
+            options.add(sentence(random, words, cumulative, 1 + random.nextInt(3)));
+        }
+        return new Question(sentence(random, words, cumulative, 8 + random.nextInt(7)) + "?", options,
+                random.nextInt(4), sentence(random, words, cumulative, 8 + random.nextInt(5)) + ".");
+    }
+
+    private static String sentence(SplittableRandom random, String[] words, double[] cumulative, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < length; w++) {
+            if (w > 0) {
+                text.append(' ');
+            }
+            int rank = java.util.Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append(words[rank < 0 ? Math.min(-rank - 1, VOCABULARY - 1) : rank]);
+        }
+        return text.toString();
+    }
+
+    private static String word(SplittableRandom random, String[] words, int fromRank, int toRank) {
+        return words[fromRank + random.nextInt(toRank - fromRank)];
+    }
+
+    /**
+     * Cumulative probabilities of word ranks under Zipf's law (exponent 1).
+     */
+    static double[] zipf() {
+        double[] cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int r = 0; r < VOCABULARY; r++) {
+            sum += 1.0 / (r + 1);
+            cumulative[r] = sum;
+        }
+        for (int r = 0; r < VOCABULARY; r++) {
+            cumulative[r] /= sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Distinct pronounceable words built from syllables.
+     */
+    static String[] vocabulary(SplittableRandom random) {
+        String[] syllables = {"ba", "ko", "ri", "te", "mu", "sa", "li", "no", "fe", "da", "pi", "go", "ve", "zu", "ha", "je"};
+        java.util.Set<String> unique = new java.util.LinkedHashSet<>();
+        while (unique.size() < VOCABULARY) {
+            StringBuilder word = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int s = 0; s < length; s++) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            unique.add(word.toString());
+        }
+        return unique.toArray(new String[0]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,47 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.AnswerSheet;
+import quiz.Question;
+import quiz.QuizEngine;
+import quiz.QuizResult;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grading a finished attempt at different quiz sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizEngineBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int questionCount;
+
+    private QuizEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new QuizEngine();
+        AnswerSheet answers = new AnswerSheet(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            engine.addQuestion(new Question(
+                    "Question " + i,
+                    Arrays.asList("A", "B", "C", "D"),
+                    i & 3,
+                    "Explanation " + i
+            ));
+            answers.set(i, (i * 7) & 3);
+        }
+        engine.setAnswers(answers);
+    }
+
+    @Benchmark
+    public QuizResult calculateResults() {
+        return engine.calculateResults("Benchmark Player");
+    }
+}
@@ -0,0 +1,57 @@
+package quiz.bench;
+
+import quiz.Question;
+import quiz.QuizPack;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Startup and access-cost report for compiled quiz packs.
+ * Compiles generated banks of increasing size and shows that opening a pack
+ * takes the same time regardless of the number of questions.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.QuizPackReport</pre>
+ */
+public class QuizPackReport {
+    private static final int RANDOM_READS = 100_000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%12s %10s %12s %12s %14s%n", "questions", "pack MB", "compile s", "open µs", "decode ns/q");
+        for (int questions : new int[]{1_000, 100_000, 1_000_000}) {
+            Path ndjson = Files.createTempFile("bank", ".ndjson");
+            Path csv = Files.createTempFile("bank", ".csv");
+            Path pack = Files.createTempFile("bank", ".pack");
+            try {
+                QuestionBankLoadReport.generate(ndjson, csv, questions);
+
+                long start = System.nanoTime();
+                QuizPack.compile(ndjson, pack);
+                double compileSeconds = (System.nanoTime() - start) / 1e9;
+
+                start = System.nanoTime();
+                try (QuizPack opened = QuizPack.open(pack)) {
+                    double openMicros = (System.nanoTime() - start) / 1e3;
+
+                    SplittableRandom random = new SplittableRandom(42);
+                    long checksum = 0;
+                    start = System.nanoTime();
+                    for (int i = 0; i < RANDOM_READS; i++) {
+                        Question question = opened.get(random.nextInt(opened.size()));
+                        checksum += question.getQuestionText().length();
+                    }
+                    double decodeNanos = (System.nanoTime() - start) / (double) RANDOM_READS;
+
+                    System.out.printf("%,12d %10.1f %12.2f %12.1f %14.0f   (checksum %d)%n", opened.size(),
+                            Files.size(pack) / 1e6, compileSeconds, openMicros, decodeNanos, checksum);
+                }
+            } finally {
+                Files.deleteIfExists(ndjson);
+                Files.deleteIfExists(csv);
+                Files.deleteIfExists(pack);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.QuizResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting of a result summary and grade lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizResultBenchmark {
+    private QuizResult result;
+
+    @Setup
+    public void setUp() {
+        result = new QuizResult("Benchmark Player", 20, 17, 95);
+    }
+
+    @Benchmark
+    public String resultToString() {
+        return result.toString();
+    }
+
+    @Benchmark
+    public String getLetterGrade() {
+        return result.getLetterGrade();
+    }
+}
@@ -0,0 +1,151 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.QuizResult;
+import quiz.QuizResultCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares shipping a result as QuizResultCodec bytes, with Java serialization and with the
+ * toString summary. Each benchmark writes a result and, where the form can be read back, reads
+ * it again. Run with the GC profiler to compare bytes allocated per result.
+ * The setup round-trips a set of awkward results through the codec and fails on any mismatch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuizResultCodecBenchmark {
+    private QuizResult result;
+    private QuizResultCodec codec;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        verifyRoundTrips();
+        result = new QuizResult("programming", "Benchmark Player", 20, 17, 95_123_000_000L, null);
+        codec = new QuizResultCodec();
+        buffer = ByteBuffer.allocate(256);
+        // Put the names in the dictionaries, as in a long-running stream
+        encodeAndDecode();
+        encodeAndDecode();
+        System.out.printf("%nFirst record %d bytes; later %d bytes; Java serialization %d bytes%n",
+                firstRecordSize(), buffer.limit(), javaSerialize(result).length);
+    }
+
+    @Benchmark
+    public QuizResult codecRoundTrip() {
+        return encodeAndDecode();
+    }
+
+    @Benchmark
+    public QuizResult javaSerializationRoundTrip() throws IOException, ClassNotFoundException {
+        byte[] bytes = javaSerialize(result);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (QuizResult) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public String toStringForm() {
+        return result.toString();
+    }
+
+    private QuizResult encodeAndDecode() {
+        buffer.clear();
+        codec.encode(result, buffer);
+        buffer.flip();
+        return codec.decode(buffer);
+    }
+
+    private int firstRecordSize() {
+        ByteBuffer fresh = ByteBuffer.allocate(256);
+        new QuizResultCodec().encode(result, fresh);
+        return fresh.position();
+    }
+
+    private static byte[] javaSerialize(QuizResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(result);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a stream of results into heap and direct buffers, decodes it and compares every field.
+     * The stream is decoded a second time as if it arrived one byte at a time: every partial record
+     * must throw BufferUnderflowException, leave the position unchanged and decode once complete.
+     */
+    private static void verifyRoundTrips() {
+        QuizResult[] results = {
+                new QuizResult("beginner", "Alice", 10, 7, 12_345_000_000L, null),
+                new QuizResult("beginner", "Alice", 10, 10, 1_000_000L, null),
+                new QuizResult("Zoë 🚀", "Zoë 🚀", 0, 0, 0, null),
+                new QuizResult("Bob", 300, 150, 3_600),
+                new QuizResult("oop", "", Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE / 2, null),
+                new QuizResult("oop", "x".repeat(1_000), 1, 0, 999_999L, null),
+        };
+        for (int maxNames : new int[] {0, 1, QuizResultCodec.DEFAULT_MAX_NAMES}) {
+            for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(4096), ByteBuffer.allocateDirect(4096)}) {
+                QuizResultCodec writer = new QuizResultCodec(maxNames);
+                QuizResultCodec reader = new QuizResultCodec(maxNames);
+                for (QuizResult original : results) {
+                    writer.encode(original, buffer);
+                }
+                buffer.flip();
+                int end = buffer.limit();
+                for (QuizResult original : results) {
+                    compare(original, reader.decode(buffer), maxNames);
+                }
+                if (buffer.hasRemaining()) {
+                    throw new IllegalStateException(buffer.remaining() + " bytes left after decoding");
+                }
+
+                QuizResultCodec partialReader = new QuizResultCodec(maxNames);
+                buffer.position(0).limit(0);
+                for (QuizResult original : results) {
+                    int start = buffer.position();
+                    while (true) {
+                        try {
+                            compare(original, partialReader.decode(buffer), maxNames);
+                            break;
+                        } catch (BufferUnderflowException e) {
+                            if (buffer.position() != start || buffer.limit() == end) {
+                                throw new IllegalStateException("Partial record of " + original.getPlayerName()
+                                        + " moved the position to " + buffer.position() + " from " + start);
+                            }
+                            buffer.limit(buffer.limit() + 1);
+                        }
+                    }
+                }
+                if (buffer.limit() != end) {
+                    throw new IllegalStateException("Partial decoding stopped at " + buffer.limit() + " of " + end + " bytes");
+                }
+            }
+        }
+    }
+
+    private static void compare(QuizResult original, QuizResult decoded, int maxNames) {
+        if (!decoded.getPlayerName().equals(original.getPlayerName())
+                || !decoded.getQuizId().equals(original.getQuizId())
+                || decoded.getTotalQuestions() != original.getTotalQuestions()
+                || decoded.getCorrectAnswers() != original.getCorrectAnswers()
+                || decoded.getTimeTakenNanos() / 1_000_000L != original.getTimeTakenNanos() / 1_000_000L) {
+            throw new IllegalStateException("Round trip changed " + original.getPlayerName()
+                    + " with a dictionary of " + maxNames);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package quiz.bench;
+
+import quiz.QuizServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test for QuizServer on loopback.
+ * Opens all sessions first so they are concurrently alive, then plays every session to the end
+ * with a bounded number of requests in flight, and reports latency percentiles per endpoint.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.QuizServerLoadTest [sessions] [inFlight] [quizId]</pre>
+ */
+public class QuizServerLoadTest {
+    private static final Pattern ATTEMPT_ID = Pattern.compile("\"attemptId\":\"([^\"]+)\"");
+    private static final Pattern TOTAL = Pattern.compile("\"totalQuestions\":(\\d+)");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Semaphore inFlight;
+
+    private QuizServerLoadTest(String baseUrl, int maxInFlight) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+                .build();
+        this.baseUrl = baseUrl;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int maxInFlight = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        String quizId = args.length > 2 ? args[2] : "programming";
+
+        QuizServer server = new QuizServer(0);
+        server.start();
+        QuizServerLoadTest test = new QuizServerLoadTest("http://127.0.0.1:" + server.getPort(), maxInFlight);
+
+        System.out.printf("Load test: %,d concurrent sessions of '%s', %d requests in flight%n%n",
+                sessions, quizId, maxInFlight);
+
+        // Phase 1: open every session, so all of them are alive at the same time
+        Latencies startLatencies = new Latencies(sessions);
+        String[] attemptIds = new String[sessions];
+        int[] questionCounts = new int[sessions];
+        CountDownLatch started = new CountDownLatch(sessions);
+        for (int s = 0; s < sessions; s++) {
+            int session = s;
+            test.call("POST", "/attempts?quiz=" + quizId + "&player=player" + s, startLatencies)
+                    .thenAccept(body -> {
+                        attemptIds[session] = extract(ATTEMPT_ID, body);
+                        questionCounts[session] = Integer.parseInt(extract(TOTAL, body));
+                    })
+                    .whenComplete((ignored, error) -> started.countDown());
+        }
+        started.await();
+        System.out.printf("Open attempts on server: %,d%n%n", server.getOpenAttempts());
+
+        // Phase 2: every session fetches and answers each question, then fetches its result
+        int questions = questionCounts[0];
+        Latencies questionLatencies = new Latencies(sessions * questions);
+        Latencies answerLatencies = new Latencies(sessions * questions);
+        Latencies resultLatencies = new Latencies(sessions);
+        long playStart = System.nanoTime();
+        CountDownLatch finished = new CountDownLatch(sessions);
+        for (int s = 0; s < sessions; s++) {
+            String path = "/attempts/" + attemptIds[s];
+            CompletableFuture<String> chain = CompletableFuture.completedFuture("");
+            for (int q = 0; q < questions; q++) {
+                int choice = 1 + ((s + q) & 3);
+                chain = chain
+                        .thenCompose(ignored -> test.call("GET", path + "/question", questionLatencies))
+                        .thenCompose(ignored -> test.call("POST", path + "/answer?choice=" + choice, answerLatencies));
+            }
+            chain.thenCompose(ignored -> test.call("GET", path + "/result", resultLatencies))
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            System.err.println("Session failed: " + error);
+                        }
+                        finished.countDown();
+                    });
+        }
+        finished.await();
+        double seconds = (System.nanoTime() - playStart) / 1_000_000_000.0;
+
+        System.out.printf("%-10s %10s %10s %10s %10s %10s%n", "endpoint", "requests", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        startLatencies.print("start");
+        questionLatencies.print("question");
+        answerLatencies.print("answer");
+        resultLatencies.print("result");
+        System.out.printf("%nPlayed %,d sessions in %.2f s (%.0f sessions/sec)%n", sessions, seconds, sessions / seconds);
+
+        server.stop(0);
+        System.exit(0);
+    }
+
+    /**
+     * Sends one request once an in-flight slot is free and records its latency.
+     */
+    private CompletableFuture<String> call(String method, String path, Latencies latencies) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        inFlight.acquireUninterruptibly();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    inFlight.release();
+                    latencies.record(System.nanoTime() - start);
+                })
+                .thenApply(response -> {
+                    if (response.statusCode() >= 300) {
+                        throw new IllegalStateException(method + " " + path + " -> " + response.statusCode() + " " + response.body());
+                    }
+                    return response.body();
+                });
+    }
+
+    private static String extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected response: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * Fixed-size latency recorder, sorted once at the end for percentiles.
+     */
+    private static class Latencies {
+        private final long[] nanos;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Latencies(int capacity) {
+            this.nanos = new long[capacity];
+        }
+
+        void record(long elapsedNanos) {
+            int index = count.getAndIncrement();
+            if (index < nanos.length) {
+                nanos[index] = elapsedNanos;
+            }
+        }
+
+        void print(String label) {
+            int n = Math.min(count.get(), nanos.length);
+            long[] sorted = Arrays.copyOf(nanos, n);
+            Arrays.sort(sorted);
+            System.out.printf("%-10s %,10d %10.2f %10.2f %10.2f %10.2f%n", label, n,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    n == 0 ? 0 : sorted[n - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
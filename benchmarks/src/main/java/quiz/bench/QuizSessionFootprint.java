@@ -0,0 +1,74 @@
+package quiz.bench;
+
+import quiz.Question;
+import quiz.Quiz;
+import quiz.QuizRepository;
+import quiz.QuizSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory and concurrency benchmark for sessions sharing one Quiz.
+ * Opens 100k sessions on a single quiz instance, reports the heap taken per session,
+ * then plays all of them to the end from several threads at once.
+ *
+ * <pre>java -Xmx1g -cp benchmarks.jar quiz.bench.QuizSessionFootprint [sessions] [threads] [quiz]</pre>
+ */
+public class QuizSessionFootprint {
+    public static void main(String[] args) throws InterruptedException {
+        int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String quizId = args.length > 2 ? args[2] : "programming";
+        Quiz quiz = QuizRepository.getQuiz(quizId);
+        System.out.printf("%,d sessions of quiz %s (%d questions) on %d threads%n%n",
+                sessionCount, quiz.getId(), quiz.size(), threads);
+
+        long before = usedHeap();
+        QuizSession[] sessions = new QuizSession[sessionCount];
+        for (int s = 0; s < sessionCount; s++) {
+            sessions[s] = quiz.newSession();
+        }
+        long bytes = usedHeap() - before;
+        System.out.printf("Heap:       %,d bytes, %,.0f bytes/session%n", bytes, (double) bytes / sessionCount);
+
+        AtomicLong correct = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int first = t;
+            Thread thread = new Thread(() -> {
+                long correctAnswers = 0;
+                // Threads interleave sessions, so every question of the quiz is read concurrently
+                for (int s = first; s < sessionCount; s += threads) {
+                    QuizSession session = sessions[s];
+                    while (!session.isFinished()) {
+                        Question question = session.currentQuestion();
+                        int choice = (s + session.getCurrentIndex()) % question.getNumberOfOptions();
+                        if (session.answer(choice)) {
+                            correctAnswers++;
+                        }
+                    }
+                    session.result("player" + s);
+                }
+                correct.addAndGet(correctAnswers);
+                done.countDown();
+            }, "session-player-" + t);
+            thread.start();
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long answers = (long) sessionCount * quiz.size();
+        System.out.printf("Played:     %,d answers in %.3f s (%,.0f answers/sec)%n", answers, seconds, answers / seconds);
+        System.out.printf("Correct:    %.1f%%%n", correct.get() * 100.0 / answers);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
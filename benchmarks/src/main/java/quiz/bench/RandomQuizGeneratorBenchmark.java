@@ -0,0 +1,69 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.Question;
+import quiz.Quiz;
+import quiz.QuizSession;
+import quiz.RandomQuizGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares drawing a random attempt with shuffled options from a bank of a million questions:
+ * a RandomQuizGenerator session over the shared bank, against copying the drawn questions
+ * into new Question objects with shuffled option lists. Run with the GC profiler to compare
+ * bytes allocated per attempt.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomQuizGeneratorBenchmark {
+    private static final int BANK_SIZE = 1_000_000;
+
+    @Param({"10", "50"})
+    public int questionsPerAttempt;
+
+    private List<Question> questions;
+    private RandomQuizGenerator generator;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        questions = new ArrayList<>(BANK_SIZE);
+        for (int i = 0; i < BANK_SIZE; i++) {
+            questions.add(new Question("Question " + i, List.of("A" + i, "B", "C", "D"), i & 3, "Because " + i));
+        }
+        generator = new RandomQuizGenerator(Quiz.of("bench", questions), questionsPerAttempt, true);
+    }
+
+    @Benchmark
+    public QuizSession generatedSession() {
+        return generator.newSession(seed++);
+    }
+
+    @Benchmark
+    public List<Question> copiedQuestions() {
+        Random random = new Random(seed++);
+        List<Question> attempt = new ArrayList<>(questionsPerAttempt);
+        java.util.Set<Integer> picked = new java.util.HashSet<>();
+        while (attempt.size() < questionsPerAttempt) {
+            int index = random.nextInt(BANK_SIZE);
+            if (picked.add(index)) {
+                Question question = questions.get(index);
+                List<String> options = new ArrayList<>(question.getOptions());
+                String correct = question.getCorrectAnswer();
+                Collections.shuffle(options, random);
+                attempt.add(new Question(question.getQuestionText(), options,
+                        options.indexOf(correct), question.getExplanation()));
+            }
+        }
+        return attempt;
+    }
+}
@@ -0,0 +1,50 @@
+package quiz.bench;
+
+import quiz.GameUI;
+import quiz.LatencyHistogram;
+import quiz.NullRenderer;
+import quiz.QuizEngine;
+import quiz.QuizRepository;
+import quiz.QuizStatistics;
+import quiz.ResponseTimings;
+
+import java.util.Scanner;
+
+/**
+ * Per-question response timing report.
+ * Plays scripted attempts of a quiz with output discarded and prints the render,
+ * wait-for-input and feedback latency percentiles of each question across all attempts.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.ResponseTimingReport [attempts] [quizId]</pre>
+ */
+public class ResponseTimingReport {
+    public static void main(String[] args) {
+        int attempts = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        String quizId = args.length > 1 ? args[1] : "programming";
+        GameUI.setRenderer(NullRenderer.INSTANCE);
+
+        QuizStatistics statistics = new QuizStatistics();
+        int questionCount = QuizRepository.getTemplate(quizId).size();
+        String script = "1\n".repeat(questionCount);
+        for (int i = 0; i < attempts; i++) {
+            QuizEngine quiz = QuizRepository.createQuizById(quizId, new Scanner(script));
+            quiz.startQuiz();
+            statistics.record(quiz.calculateResults("player" + i));
+        }
+
+        String[] phases = {"render", "wait", "feedback"};
+        System.out.printf("%4s", "Q");
+        for (String phase : phases) {
+            System.out.printf(" %12s %12s", phase + " p50", phase + " p99");
+        }
+        System.out.println("   (ns)");
+        for (int question = 0; question < questionCount; question++) {
+            System.out.printf("%4d", question + 1);
+            for (int phase = 0; phase < ResponseTimings.PHASES; phase++) {
+                LatencyHistogram histogram = statistics.getQuestionLatency(quizId, question, phase);
+                System.out.printf(" %,12d %,12d", histogram.getPercentileNanos(50), histogram.getPercentileNanos(99));
+            }
+            System.out.println();
+        }
+    }
+}
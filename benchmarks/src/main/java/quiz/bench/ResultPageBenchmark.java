@@ -0,0 +1,87 @@
+package quiz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import quiz.Frame;
+import quiz.QuizResult;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a results page of summary boxes for 10k players: the String.format
+ * layout QuizResult.toString used before templates, the template-backed toString, and the
+ * template rendered straight into one Frame. Run with the GC profiler to compare bytes
+ * allocated per page. The setup checks that the template renders exactly what String.format did.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultPageBenchmark {
+    private static final int PLAYERS = 10_000;
+    private static final String FORMAT =
+            "╔══════════════════════════════════════╗\n" +
+            "║        QUIZ RESULT SUMMARY            ║\n" +
+            "╠══════════════════════════════════════╣\n" +
+            "║ Player:       %-24s║\n" +
+            "║ Correct:      %2d/%d                    ║\n" +
+            "║ Incorrect:    %2d/%d                    ║\n" +
+            "║ Percentage:   %.2f%%                 ║\n" +
+            "║ Grade:        %s                     ║\n" +
+            "║ Time Taken:   %d seconds              ║\n" +
+            "╚══════════════════════════════════════╝";
+
+    private QuizResult[] results;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3);
+        results = new QuizResult[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            int total = 1 + random.nextInt(120);
+            String name = i % 97 == 0 ? "Zoë the Very Long-Named Adventurer " + i : "player" + i;
+            results[i] = new QuizResult("quiz" + (i % 7), name, total, random.nextInt(total + 1), random.nextInt(3_600));
+        }
+        for (QuizResult result : results) {
+            if (!result.toString().equals(formatted(result))) {
+                throw new IllegalStateException("Template differs from String.format for " + result.getPlayerName()
+                        + ":\n" + result + "\n" + formatted(result));
+            }
+        }
+    }
+
+    @Benchmark
+    public int stringFormatPage() {
+        StringBuilder page = new StringBuilder();
+        for (QuizResult result : results) {
+            page.append(formatted(result)).append('\n');
+        }
+        return page.length();
+    }
+
+    @Benchmark
+    public int toStringPage() {
+        StringBuilder page = new StringBuilder();
+        for (QuizResult result : results) {
+            page.append(result).append('\n');
+        }
+        return page.length();
+    }
+
+    @Benchmark
+    public int framePage() {
+        Frame page = Frame.begin();
+        for (QuizResult result : results) {
+            result.appendSummary(page).newline();
+        }
+        return page.size();
+    }
+
+    private static String formatted(QuizResult result) {
+        return String.format(FORMAT, result.getPlayerName(), result.getCorrectAnswers(), result.getTotalQuestions(),
+                result.getIncorrectAnswers(), result.getTotalQuestions(),
+                result.getPercentageScore(), result.getLetterGrade(), result.getTimeTaken());
+    }
+}
@@ -0,0 +1,105 @@
+package quiz.bench;
+
+import quiz.QuizResult;
+import quiz.ResultsJournal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and recovery report for the results journal.
+ * Appends results from several threads with a durable wait at the end, replays the
+ * journal from disk, then damages one record and checks that reopening skips it.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.ResultsJournalReport [results] [directory]</pre>
+ */
+public class ResultsJournalReport {
+    public static void main(String[] args) throws Exception {
+        int results = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path directory = args.length > 1 ? Path.of(args[1]) : Path.of(System.getProperty("java.io.tmpdir"));
+
+        System.out.printf("%8s %12s %12s %14s %12s%n", "threads", "results", "append s", "appends/sec", "replay ms");
+        for (int threads : new int[]{1, 4, 16}) {
+            Path file = Files.createTempFile(directory, "results", ".journal");
+            Files.delete(file);
+            try {
+                double appendSeconds;
+                try (ResultsJournal journal = ResultsJournal.open(file)) {
+                    AtomicLong next = new AtomicLong();
+                    Thread[] workers = new Thread[threads];
+                    long start = System.nanoTime();
+                    for (int t = 0; t < threads; t++) {
+                        workers[t] = new Thread(() -> {
+                            long i;
+                            try {
+                                while ((i = next.getAndIncrement()) < results) {
+                                    journal.append(new QuizResult("player-" + (i % 10_000), 10, (int) (i % 11), i % 300));
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                        workers[t].start();
+                    }
+                    for (Thread worker : workers) {
+                        worker.join();
+                    }
+                    journal.flush();
+                    appendSeconds = (System.nanoTime() - start) / 1e9;
+                }
+
+                long start = System.nanoTime();
+                long replayed;
+                try (ResultsJournal journal = ResultsJournal.open(file)) {
+                    long[] correct = new long[1];
+                    replayed = journal.replay(result -> correct[0] += result.getCorrectAnswers());
+                }
+                double replayMillis = (System.nanoTime() - start) / 1e6;
+
+                System.out.printf("%8d %,12d %12.2f %,14.0f %12.1f%n",
+                        threads, replayed, appendSeconds, results / appendSeconds, replayMillis);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        checkRecovery(directory);
+    }
+
+    /**
+     * Flips a byte inside one record and appends half a record, then reopens the journal.
+     */
+    private static void checkRecovery(Path directory) throws IOException, InterruptedException {
+        Path file = Files.createTempFile(directory, "results", ".journal");
+        Files.delete(file);
+        try {
+            try (ResultsJournal journal = ResultsJournal.open(file)) {
+                for (int i = 0; i < 100; i++) {
+                    journal.append(new QuizResult("player-" + i, 10, i % 11, i));
+                }
+            }
+            try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+                raw.seek(raw.length() / 2);
+                raw.write(raw.read() ^ 0xFF);
+                raw.seek(raw.length());
+                raw.write(new byte[20]);
+            }
+
+            try (ResultsJournal journal = ResultsJournal.open(file)) {
+                int skipped = journal.getSkippedRecords();
+                long valid = journal.replay(result -> { });
+                while (journal.getSkippedRecords() > 0) {
+                    Thread.sleep(10);
+                }
+                System.out.printf("%nRecovery: %d valid, %d damaged skipped, %d records after compaction%n",
+                        valid, skipped, journal.replay(result -> { }));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
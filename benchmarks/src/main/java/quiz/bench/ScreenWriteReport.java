@@ -0,0 +1,68 @@
+package quiz.bench;
+
+import quiz.GameUI;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Counts the writes that reach the console and the bytes written for each GameUI screen.
+ * System.out is replaced by a stream built like the JVM's own stdout (autoflushing PrintStream over
+ * an 8 KB BufferedOutputStream), so every write counted here would be one write syscall on a terminal.
+ *
+ * <pre>java -cp benchmarks.jar quiz.bench.ScreenWriteReport</pre>
+ */
+public class ScreenWriteReport {
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        CountingStream counter = new CountingStream();
+        System.setOut(new PrintStream(new BufferedOutputStream(counter, 8192), true, StandardCharsets.UTF_8));
+
+        List<String> options = List.of("HashSet", "ArrayList", "HashMap", "TreeSet");
+        Object[][] screens = {
+            {"displayQuestion", (Runnable) () -> GameUI.displayQuestion(
+                    "Which collection maintains insertion order and allows duplicates?", 3, 8)},
+            {"displayAnswerOptions", (Runnable) () -> GameUI.displayAnswerOptions(options)},
+            {"displayResultCard", (Runnable) () -> GameUI.displayResultCard("Benchmark Player", 7, 8, 87.5, "B", 42)},
+            {"displayStatistics", (Runnable) () -> GameUI.displayStatistics(12, 80, 96, 83.3)},
+            {"displayMainMenu", (Runnable) GameUI::displayMainMenu},
+            {"displayCodex", (Runnable) GameUI::displayCodex},
+        };
+
+        StringBuilder report = new StringBuilder(String.format("%-22s %8s %8s%n", "screen", "writes", "bytes"));
+        for (Object[] screen : screens) {
+            counter.reset();
+            ((Runnable) screen[1]).run();
+            System.out.flush();
+            report.append(String.format("%-22s %8d %8d%n", screen[0], counter.writes, counter.bytes));
+        }
+
+        System.setOut(console);
+        System.out.print(report);
+    }
+
+    private static class CountingStream extends OutputStream {
+        long writes;
+        long bytes;
+
+        void reset() {
+            writes = 0;
+            bytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            writes++;
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writes++;
+            bytes += len;
+        }
+    }
+}
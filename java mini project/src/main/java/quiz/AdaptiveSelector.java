@@ -0,0 +1,214 @@
+package quiz;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * AdaptiveSelector: Picks each next question of an attempt by matching the player's estimated
+ * ability to question difficulty, as in adaptive certification tests.
+ *
+ * Ability and difficulty share one logistic (Elo/Rasch) scale: a player of ability a answers a
+ * question of difficulty d correctly with probability 1 / (1 + e^(d - a)). Every graded answer
+ * moves the question's difficulty towards what was observed, with a step that shrinks as the
+ * question collects attempts, so estimates settle while new questions calibrate quickly.
+ * A player's ability is re-estimated from the answers of the session before every pick.
+ *
+ * Questions are kept in a concurrent skip list ordered by difficulty. Picking the unasked
+ * question closest to an ability is a O(log n) search plus a step past the few questions the
+ * session already asked, and runs without locks; updates are serialized but only touch one entry.
+ * One selector is shared by all attempts at a bank, so every answer improves the estimates.
+ */
+public class AdaptiveSelector implements QuestionSelector {
+    private static final double INITIAL_QUESTION_STEP = 0.4;
+    private static final double MIN_QUESTION_STEP = 0.02;
+    private static final double PLAYER_STEP = 0.8;
+    private static final Comparator<Rating> BY_DIFFICULTY = Comparator
+            .comparingDouble((Rating rating) -> rating.difficulty)
+            .thenComparingInt(rating -> rating.questionIndex);
+
+    private final Quiz bank;
+    private final int questionsPerAttempt;
+    private final ConcurrentSkipListSet<Rating> byDifficulty = new ConcurrentSkipListSet<>(BY_DIFFICULTY);
+    private final AtomicReferenceArray<Rating> ratings;
+
+    /**
+     * Creates a selector for a bank whose questions are all rated average at first.
+     *
+     * @param bank The questions to draw from
+     * @param questionsPerAttempt Number of questions asked per attempt
+     */
+    public AdaptiveSelector(Quiz bank, int questionsPerAttempt) {
+        this(bank, questionsPerAttempt, new double[bank.size()]);
+    }
+
+    /**
+     * Creates a selector for a bank with known difficulties, e.g. from an earlier calibration.
+     *
+     * @param bank The questions to draw from
+     * @param questionsPerAttempt Number of questions asked per attempt
+     * @param difficulties Starting difficulty of every question; 0 is average
+     */
+    public AdaptiveSelector(Quiz bank, int questionsPerAttempt, double[] difficulties) {
+        if (questionsPerAttempt < 1 || questionsPerAttempt > bank.size()) {
+            throw new IllegalArgumentException("Questions per attempt must be between 1 and " + bank.size());
+        }
+        if (difficulties.length != bank.size()) {
+            throw new IllegalArgumentException("Expected " + bank.size() + " difficulties but got " + difficulties.length);
+        }
+        this.bank = bank;
+        this.questionsPerAttempt = questionsPerAttempt;
+        this.ratings = new AtomicReferenceArray<>(bank.size());
+        for (int i = 0; i < difficulties.length; i++) {
+            Rating rating = new Rating(i, difficulties[i], 0);
+            ratings.set(i, rating);
+            byDifficulty.add(rating);
+        }
+    }
+
+    public Quiz getBank() {
+        return bank;
+    }
+
+    public int getQuestionsPerAttempt() {
+        return questionsPerAttempt;
+    }
+
+    @Override
+    public QuizSession newSession(Quiz quiz) {
+        if (quiz != bank) {
+            throw new IllegalArgumentException("This selector draws from quiz " + bank.getId() + ", not " + quiz.getId());
+        }
+        return bank.newSession(questionsPerAttempt);
+    }
+
+    /**
+     * Picks the unasked question whose difficulty is closest to the player's current ability.
+     */
+    @Override
+    public int next(QuizSession session) {
+        if (session.isFinished()) {
+            return -1;
+        }
+        double ability = estimateAbility(session, session.getCurrentIndex());
+        Rating probe = new Rating(-1, ability, 0);
+        Iterator<Rating> harder = byDifficulty.tailSet(probe, true).iterator();
+        Iterator<Rating> easier = byDifficulty.headSet(probe, false).descendingIterator();
+        Rating up = nextUnasked(harder, session);
+        Rating down = nextUnasked(easier, session);
+        if (up == null && down == null) {
+            return -1;
+        }
+        if (down == null || (up != null && up.difficulty - ability <= ability - down.difficulty)) {
+            return up.questionIndex;
+        }
+        return down.questionIndex;
+    }
+
+    /**
+     * Moves the difficulty of the answered question towards the observed outcome.
+     */
+    @Override
+    public void graded(QuizSession session, int questionIndex, boolean correct) {
+        // Ability as it was before this answer, so the answer is not counted twice
+        double ability = estimateAbility(session, session.getCurrentIndex() - 1);
+        synchronized (this) {
+            Rating current = ratings.get(questionIndex);
+            double step = Math.max(MIN_QUESTION_STEP, INITIAL_QUESTION_STEP / Math.sqrt(1 + current.attempts));
+            double outcome = correct ? 1 : 0;
+            Rating updated = new Rating(questionIndex,
+                    current.difficulty + step * (expected(ability, current.difficulty) - outcome),
+                    current.attempts + 1);
+            // Publish the new entry before dropping the old one, so concurrent picks never miss the question
+            byDifficulty.add(updated);
+            ratings.set(questionIndex, updated);
+            byDifficulty.remove(current);
+        }
+    }
+
+    /**
+     * Returns the current difficulty estimate of a question.
+     *
+     * @param questionIndex Index of the question in the bank
+     * @return Difficulty on the logistic scale; 0 is average, higher is harder
+     */
+    public double getDifficulty(int questionIndex) {
+        return ratings.get(questionIndex).difficulty;
+    }
+
+    /**
+     * Returns how many graded answers the difficulty of a question is based on.
+     *
+     * @param questionIndex Index of the question in the bank
+     * @return Number of graded answers
+     */
+    public long getAttempts(int questionIndex) {
+        return ratings.get(questionIndex).attempts;
+    }
+
+    /**
+     * Estimates a player's ability from the answers given so far in a session.
+     *
+     * @param session The attempt
+     * @return Ability on the same scale as difficulty
+     */
+    public double getAbility(QuizSession session) {
+        return estimateAbility(session, session.getCurrentIndex());
+    }
+
+    /**
+     * Replays the first answers of a session as Elo updates, starting from average ability
+     * with a step that shrinks as evidence accumulates.
+     */
+    private double estimateAbility(QuizSession session, int answered) {
+        double ability = 0;
+        AnswerSheet answers = session.getAnswers();
+        for (int slot = 0; slot < answered; slot++) {
+            if (!answers.isAnswered(slot)) {
+                continue;
+            }
+            int questionIndex = session.getQuestionIndex(slot);
+            double outcome = bank.getQuestion(questionIndex).isCorrect(answers.get(slot)) ? 1 : 0;
+            ability += PLAYER_STEP / Math.sqrt(1 + slot)
+                    * (outcome - expected(ability, ratings.get(questionIndex).difficulty));
+        }
+        return ability;
+    }
+
+    /**
+     * Probability that a player of the given ability answers a question of the given difficulty correctly.
+     */
+    private static double expected(double ability, double difficulty) {
+        return 1 / (1 + Math.exp(difficulty - ability));
+    }
+
+    /**
+     * Returns the next rating from an iterator whose question the session has not asked,
+     * skipping stale entries left by a concurrent update.
+     */
+    private Rating nextUnasked(Iterator<Rating> iterator, QuizSession session) {
+        while (iterator.hasNext()) {
+            Rating rating = iterator.next();
+            if (!session.hasAsked(rating.questionIndex) && ratings.get(rating.questionIndex) == rating) {
+                return rating;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Immutable difficulty estimate of one question; replaced on every update.
+     */
+    private static final class Rating {
+        final int questionIndex;
+        final double difficulty;
+        final long attempts;
+
+        Rating(int questionIndex, double difficulty, long attempts) {
+            this.questionIndex = questionIndex;
+            this.difficulty = difficulty;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animation: A sequence of text steps, each followed by a delay.
+ * Renderers decide whether to play the steps over time or just write the end result.
+ */
+public final class Animation {
+    private final String[] texts;
+    private final long[] delays;
+
+    private Animation(List<String> texts, List<Long> delays) {
+        this.texts = texts.toArray(new String[0]);
+        this.delays = new long[delays.size()];
+        for (int i = 0; i < this.delays.length; i++) {
+            this.delays[i] = delays.get(i);
+        }
+    }
+
+    /**
+     * Starts building an animation.
+     *
+     * @return A new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public String getText(int step) {
+        return texts[step];
+    }
+
+    public long getDelayAfter(int step) {
+        return delays[step];
+    }
+
+    /**
+     * Returns the total time the animation takes when played.
+     *
+     * @return Duration in milliseconds
+     */
+    public long getDurationMillis() {
+        long total = 0;
+        for (long delay : delays) {
+            total += delay;
+        }
+        return total;
+    }
+
+    /**
+     * Builder for animations.
+     */
+    public static final class Builder {
+        private final List<String> texts = new ArrayList<>();
+        private final List<Long> delays = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds text that is written immediately.
+         */
+        public Builder write(String text) {
+            return step(text, 0);
+        }
+
+        /**
+         * Adds text followed by a delay.
+         */
+        public Builder step(String text, long delayMillis) {
+            texts.add(text);
+            delays.add(delayMillis);
+            return this;
+        }
+
+        /**
+         * Adds text that appears one character at a time, followed by a line break.
+         * ANSI escape sequences are written as a whole, so they never show up half-typed.
+         */
+        public Builder type(String text, long perCharMillis) {
+            int i = 0;
+            while (i < text.length()) {
+                int end = i + 1;
+                if (text.charAt(i) == '\u001B') {
+                    while (end < text.length() && !Character.isLetter(text.charAt(end))) {
+                        end++;
+                    }
+                    end = Math.min(end + 1, text.length());
+                } else if (Character.isHighSurrogate(text.charAt(i)) && end < text.length()) {
+                    end++;
+                }
+                step(text.substring(i, end), perCharMillis);
+                i = end;
+            }
+            return write(System.lineSeparator());
+        }
+
+        /**
+         * Adds a pause without output.
+         */
+        public Builder pause(long millis) {
+            return step("", millis);
+        }
+
+        public Animation build() {
+            return new Animation(texts, delays);
+        }
+    }
+}
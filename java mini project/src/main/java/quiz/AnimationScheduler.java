@@ -0,0 +1,88 @@
+package quiz;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * AnimationScheduler: One shared timer thread that drives every animation and pause.
+ * Steps are scheduled instead of sleeping, so a single thread can animate many sessions
+ * and the callers' threads are never put to sleep.
+ */
+public final class AnimationScheduler {
+    private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "quiz-animation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    private AnimationScheduler() {
+    }
+
+    /**
+     * Runs a task on the animation thread after a delay.
+     *
+     * @param task The task to run
+     * @param delayMillis Delay in milliseconds
+     */
+    public static void schedule(Runnable task, long delayMillis) {
+        TIMER.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns a future that completes after a delay.
+     *
+     * @param delayMillis Delay in milliseconds
+     * @return Future completing on the animation thread
+     */
+    public static CompletableFuture<Void> delay(long delayMillis) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (delayMillis <= 0) {
+            done.complete(null);
+        } else {
+            schedule(() -> done.complete(null), delayMillis);
+        }
+        return done;
+    }
+
+    /**
+     * Plays an animation by writing each step and scheduling the next one after its delay.
+     * Steps without a delay are written together.
+     *
+     * @param animation The animation to play
+     * @param writer Writes the text of one or more steps
+     * @return Future completing after the last step
+     */
+    public static CompletableFuture<Void> play(Animation animation, Consumer<String> writer) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        playFrom(animation, 0, writer, done);
+        return done;
+    }
+
+    private static void playFrom(Animation animation, int step, Consumer<String> writer,
+                                 CompletableFuture<Void> done) {
+        try {
+            StringBuilder batch = new StringBuilder();
+            while (step < animation.size()) {
+                batch.append(animation.getText(step));
+                long delay = animation.getDelayAfter(step);
+                step++;
+                if (delay > 0) {
+                    writer.accept(batch.toString());
+                    int next = step;
+                    schedule(() -> playFrom(animation, next, writer, done), delay);
+                    return;
+                }
+            }
+            writer.accept(batch.toString());
+            done.complete(null);
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+        }
+    }
+}
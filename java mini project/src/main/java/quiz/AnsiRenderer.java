@@ -0,0 +1,66 @@
+package quiz;
+
+import java.io.PrintStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AnsiRenderer: The full game look for color terminals, with animations played in real time.
+ */
+public class AnsiRenderer implements Renderer {
+    private static final boolean IS_WINDOWS = System.getProperty("os.name").contains("Windows");
+    private static final byte[] CLEAR_SCREEN = Frame.encode("\033[H\033[2J");
+
+    private final PrintStream out;
+
+    /**
+     * Creates a renderer that always writes to the current System.out.
+     */
+    public AnsiRenderer() {
+        this(null);
+    }
+
+    /**
+     * Creates a renderer that writes to the given stream.
+     *
+     * @param out The stream to write to
+     */
+    public AnsiRenderer(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void render(Frame frame) {
+        frame.writeTo(out());
+    }
+
+    @Override
+    public CompletableFuture<Void> play(Animation animation) {
+        return AnimationScheduler.play(animation, text -> Frame.begin().append(text).writeTo(out()));
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long milliseconds) {
+        return AnimationScheduler.delay(milliseconds);
+    }
+
+    /**
+     * Clears the screen (works on most terminals).
+     */
+    @Override
+    public void clearScreen() {
+        PrintStream stream = out();
+        try {
+            if (IS_WINDOWS && out == null) {
+                new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
+            } else {
+                Frame.begin().append(CLEAR_SCREEN).writeTo(stream);
+            }
+        } catch (Exception e) {
+            for (int i = 0; i < 50; i++) stream.println();
+        }
+    }
+
+    private PrintStream out() {
+        return out != null ? out : System.out;
+    }
+}
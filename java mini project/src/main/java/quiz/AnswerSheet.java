@@ -0,0 +1,128 @@
+package quiz;
+
+import java.util.Arrays;
+
+/**
+ * Compact record of the answers given in one quiz attempt.
+ * Each answer is packed into 4 bits, so 100 answers fit in 50 bytes
+ * instead of 100 boxed Integers in a list.
+ */
+public class AnswerSheet {
+    /** Answer value of a question that has not been answered. */
+    public static final int UNANSWERED = -1;
+    /** Largest answer index that fits in a slot; 0xF is reserved for UNANSWERED. */
+    public static final int MAX_ANSWER_INDEX = 14;
+
+    private static final int EMPTY_SLOT = 0xF;
+    private static final byte EMPTY_PAIR = (byte) 0xFF;
+
+    private final byte[] packed;
+    private final int size;
+
+    /**
+     * Creates a sheet with every question unanswered.
+     *
+     * @param questionCount Number of questions on the sheet
+     */
+    public AnswerSheet(int questionCount) {
+        this.size = questionCount;
+        this.packed = new byte[(questionCount + 1) / 2];
+        Arrays.fill(packed, EMPTY_PAIR);
+    }
+
+    /**
+     * Creates a sheet from 0-based answer indices (-1 for unanswered).
+     *
+     * @param answers The answers to record
+     * @return A sheet holding the answers
+     */
+    public static AnswerSheet of(int... answers) {
+        AnswerSheet sheet = new AnswerSheet(answers.length);
+        for (int i = 0; i < answers.length; i++) {
+            sheet.set(i, answers[i]);
+        }
+        return sheet;
+    }
+
+    /**
+     * Records the answer to a question.
+     *
+     * @param questionIndex Index of the question (0-based)
+     * @param answerIndex Index of the chosen option (0-based), or UNANSWERED
+     */
+    public void set(int questionIndex, int answerIndex) {
+        if (answerIndex < UNANSWERED || answerIndex > MAX_ANSWER_INDEX) {
+            throw new IllegalArgumentException("Answer index out of range: " + answerIndex);
+        }
+        int slot = answerIndex == UNANSWERED ? EMPTY_SLOT : answerIndex;
+        int pair = checkIndex(questionIndex) >> 1;
+        if ((questionIndex & 1) == 0) {
+            packed[pair] = (byte) ((packed[pair] & 0xF0) | slot);
+        } else {
+            packed[pair] = (byte) ((packed[pair] & 0x0F) | (slot << 4));
+        }
+    }
+
+    /**
+     * Returns the recorded answer to a question.
+     *
+     * @param questionIndex Index of the question (0-based)
+     * @return Index of the chosen option (0-based), or UNANSWERED
+     */
+    public int get(int questionIndex) {
+        int pair = packed[checkIndex(questionIndex) >> 1];
+        int slot = (questionIndex & 1) == 0 ? pair & 0x0F : (pair >> 4) & 0x0F;
+        return slot == EMPTY_SLOT ? UNANSWERED : slot;
+    }
+
+    /**
+     * Checks if a question has been answered.
+     *
+     * @param questionIndex Index of the question (0-based)
+     * @return true if an answer was recorded
+     */
+    public boolean isAnswered(int questionIndex) {
+        return get(questionIndex) != UNANSWERED;
+    }
+
+    /**
+     * Returns the number of questions on the sheet.
+     *
+     * @return Number of questions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts the answers that match the answer key.
+     * Questions beyond the end of either the sheet or the key are not counted.
+     *
+     * @param correctAnswers Correct answer index for each question
+     * @return Number of correct answers
+     */
+    public int countCorrect(int[] correctAnswers) {
+        int count = Math.min(size, correctAnswers.length);
+        int correct = 0;
+        for (int i = 0; i < count; i++) {
+            if (get(i) == correctAnswers[i]) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+
+    /**
+     * Marks every question as unanswered again.
+     */
+    public void clear() {
+        Arrays.fill(packed, EMPTY_PAIR);
+    }
+
+    private int checkIndex(int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= size) {
+            throw new IndexOutOfBoundsException("Question index " + questionIndex + " out of range for " + size + " questions");
+        }
+        return questionIndex;
+    }
+}
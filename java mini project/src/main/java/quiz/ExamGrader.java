@@ -0,0 +1,229 @@
+package quiz;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * ExamGrader: Grades pre-recorded answer sheets without the interactive quiz loop.
+ * Sheets are graded in parallel on a fork/join pool, so throughput scales with cores.
+ */
+public class ExamGrader {
+    // Sheets graded per leaf task; big enough to amortize the fork/join overhead
+    private static final int LEAF_SIZE = 256;
+    // Sheets read from a stream before a parallel grading round starts
+    private static final int CHUNK_SIZE = 16_384;
+
+    private final int[] correctAnswers;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a grader for the given answer key using the common fork/join pool.
+     *
+     * @param answerKey Questions of the quiz, in the order they appear on the sheets
+     */
+    public ExamGrader(List<Question> answerKey) {
+        this(answerKey, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a grader for the given answer key using a specific fork/join pool.
+     *
+     * @param answerKey Questions of the quiz, in the order they appear on the sheets
+     * @param pool The pool to grade sheets on
+     */
+    public ExamGrader(List<Question> answerKey, ForkJoinPool pool) {
+        // Only the correct indices are needed while grading, so keep them in a flat array
+        this.correctAnswers = new int[answerKey.size()];
+        for (int i = 0; i < correctAnswers.length; i++) {
+            correctAnswers[i] = answerKey.get(i).getCorrectAnswerIndex();
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * A single pre-recorded answer sheet.
+     */
+    public static class Sheet {
+        private final String playerName;
+        private final AnswerSheet answers;
+        private final long timeTaken;
+
+        /**
+         * @param playerName Name of the player who filled in the sheet
+         * @param answers The recorded answers
+         * @param timeTaken Time the player spent on the exam in seconds
+         */
+        public Sheet(String playerName, AnswerSheet answers, long timeTaken) {
+            this.playerName = playerName;
+            this.answers = answers;
+            this.timeTaken = timeTaken;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public AnswerSheet getAnswers() {
+            return answers;
+        }
+
+        public long getTimeTaken() {
+            return timeTaken;
+        }
+    }
+
+    /**
+     * Grades a single sheet on the calling thread.
+     *
+     * @param sheet The sheet to grade
+     * @return QuizResult for the sheet
+     */
+    public QuizResult grade(Sheet sheet) {
+        int correctCount = sheet.getAnswers().countCorrect(correctAnswers);
+        return new QuizResult(sheet.getPlayerName(), correctAnswers.length, correctCount, sheet.getTimeTaken());
+    }
+
+    /**
+     * Grades all sheets in parallel.
+     *
+     * @param sheets The sheets to grade
+     * @return Results in the same order as the sheets
+     */
+    public List<QuizResult> gradeAll(List<Sheet> sheets) {
+        QuizResult[] results = new QuizResult[sheets.size()];
+        pool.invoke(new GradeTask(this, sheets, results, 0, results.length));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Grades a stream of sheets chunk by chunk, so the whole exam never has to fit in memory.
+     * Results are handed to the consumer in input order.
+     *
+     * @param sheets Iterator over the sheets to grade
+     * @param consumer Receives every result
+     * @return Number of sheets graded
+     */
+    public long gradeStream(Iterator<Sheet> sheets, Consumer<QuizResult> consumer) {
+        long graded = 0;
+        List<Sheet> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (sheets.hasNext()) {
+            chunk.add(sheets.next());
+            if (chunk.size() == CHUNK_SIZE || !sheets.hasNext()) {
+                gradeAll(chunk).forEach(consumer);
+                graded += chunk.size();
+                chunk.clear();
+            }
+        }
+        return graded;
+    }
+
+    /**
+     * Parses one sheet line of the form {@code name,answer1,answer2,...}.
+     * Answers are 1-based like in the interactive quiz; blank or "-" means unanswered.
+     *
+     * @param line The line to parse
+     * @return The parsed sheet
+     * @throws IllegalArgumentException if an answer is not a number of at least 1
+     */
+    public static Sheet parseSheet(String line) {
+        String[] fields = line.split(",", -1);
+        AnswerSheet answers = new AnswerSheet(fields.length - 1);
+        for (int i = 1; i < fields.length; i++) {
+            String field = fields[i].trim();
+            if (field.isEmpty() || field.equals("-")) {
+                continue;
+            }
+            int choice;
+            try {
+                choice = Integer.parseInt(field);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid answer '" + field + "' in sheet: " + line);
+            }
+            // Choices are 1-based; 0 would otherwise become UNANSWERED
+            if (choice < 1) {
+                throw new IllegalArgumentException("Invalid answer '" + field + "' in sheet: " + line);
+            }
+            answers.set(i - 1, choice - 1); // Convert to 0-based index
+        }
+        return new Sheet(fields[0].trim(), answers, 0);
+    }
+
+    /**
+     * Returns an iterator that lazily parses sheets from a reader, skipping blank lines.
+     *
+     * @param reader Source of sheet lines
+     * @return Iterator over the parsed sheets
+     */
+    public static Iterator<Sheet> readSheets(BufferedReader reader) {
+        return new Iterator<>() {
+            private String nextLine = advance();
+
+            private String advance() {
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            return line;
+                        }
+                    }
+                    return null;
+                } catch (IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextLine != null;
+            }
+
+            @Override
+            public Sheet next() {
+                if (nextLine == null) {
+                    throw new NoSuchElementException();
+                }
+                Sheet sheet = parseSheet(nextLine);
+                nextLine = advance();
+                return sheet;
+            }
+        };
+    }
+
+    /**
+     * Fork/join task that splits a range of sheets until it is small enough to grade directly.
+     */
+    private static final class GradeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ExamGrader grader;
+        private final List<Sheet> sheets;
+        private final QuizResult[] results;
+        private final int from;
+        private final int to;
+
+        GradeTask(ExamGrader grader, List<Sheet> sheets, QuizResult[] results, int from, int to) {
+            this.grader = grader;
+            this.sheets = sheets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    results[i] = grader.grade(sheets.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GradeTask(grader, sheets, results, from, mid),
+                    new GradeTask(grader, sheets, results, mid, to));
+        }
+    }
+}
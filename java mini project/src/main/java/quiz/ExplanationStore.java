@@ -0,0 +1,251 @@
+package quiz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ExplanationStore: Keeps the explanations of a question bank in a segment file instead of
+ * on the heap. Explanations are the longest strings of a bank but are read only once per
+ * question, after the player answers, so a large bank can leave them on disk.
+ *
+ * The segment is the UTF-8 bytes of every explanation back to back; the store remembers the
+ * offset where each one starts, 8 bytes per explanation. Reading one is a single positional
+ * read, which runs concurrently with other reads, and the most recently read explanations
+ * are kept in a small LRU cache so a question asked by many players at once is read once.
+ * Appends are buffered and written before any read that needs them.
+ *
+ * The file is closed when the store is closed, e.g. when the template cache evicts its bank,
+ * or at the latest once the store is no longer reachable. After that only cached explanations
+ * can still be read.
+ */
+public final class ExplanationStore implements Closeable {
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Cleaner.Cleanable cleanable;
+    private final Map<Integer, String> cache;
+    private final ByteBuffer pending = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    // Explanation i occupies offsets[i] up to offsets[i + 1] of the segment
+    private long[] offsets = new long[17];
+    private int size;
+    private long written;
+    private long hits;
+    private long misses;
+
+    private ExplanationStore(FileChannel channel, Path deleteOnClose, int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.channel = channel;
+        this.cleanable = CLEANER.register(this, new Closer(channel, deleteOnClose));
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a store writing to a segment file, replacing any existing file.
+     * The file is kept when the store is closed.
+     *
+     * @param file The segment file
+     * @param cacheSize Number of explanations to keep decoded in memory
+     * @return An empty store
+     */
+    public static ExplanationStore create(Path file, int cacheSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new ExplanationStore(channel, null, cacheSize);
+    }
+
+    /**
+     * Creates a store writing to a new temporary segment file, deleted when the store is closed.
+     *
+     * @param directory Directory for the segment file
+     * @param cacheSize Number of explanations to keep decoded in memory
+     * @return An empty store
+     */
+    public static ExplanationStore createTemporary(Path directory, int cacheSize) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "explanations-", ".seg");
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            return new ExplanationStore(channel, file, cacheSize);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends an explanation to the segment.
+     *
+     * @param explanation The explanation text
+     * @return Id of the explanation in this store
+     */
+    public synchronized int add(String explanation) {
+        byte[] bytes = explanation.getBytes(StandardCharsets.UTF_8);
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        try {
+            if (bytes.length > pending.remaining()) {
+                flush();
+            }
+            if (bytes.length > pending.capacity()) {
+                writeFully(ByteBuffer.wrap(bytes), written);
+                written += bytes.length;
+            } else {
+                pending.put(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write explanation", e);
+        }
+        int id = size++;
+        offsets[id + 1] = offsets[id] + bytes.length;
+        return id;
+    }
+
+    /**
+     * Reads an explanation, from the cache or with one positional read of the segment.
+     *
+     * @param id Id returned by {@link #add(String)}
+     * @return The explanation text
+     */
+    public String get(int id) {
+        long start;
+        int length;
+        synchronized (this) {
+            if (id < 0 || id >= size) {
+                throw new IndexOutOfBoundsException("No explanation " + id + " in a store of " + size);
+            }
+            String cached = cache.get(id);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            if (!channel.isOpen()) {
+                throw new IllegalStateException("Explanation store is closed; explanation " + id + " is not cached");
+            }
+            misses++;
+            start = offsets[id];
+            length = (int) (offsets[id + 1] - start);
+            if (start + length > written) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not write explanations", e);
+                }
+            }
+        }
+        // Positional reads do not move the channel position, so they run outside the lock
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("Explanation segment ends before explanation " + id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read explanation " + id, e);
+        }
+        String explanation = new String(buffer.array(), 0, length, StandardCharsets.UTF_8);
+        synchronized (this) {
+            cache.put(id, explanation);
+        }
+        return explanation;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the size of the segment.
+     *
+     * @return Bytes of explanation text, written or still buffered
+     */
+    public synchronized long getByteCount() {
+        return offsets[size];
+    }
+
+    /**
+     * Writes buffered explanations and closes the segment; a temporary segment is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (channel.isOpen()) {
+                flush();
+            }
+        }
+        cleanable.clean();
+    }
+
+    // ==================== FILE ====================
+
+    private void flush() throws IOException {
+        pending.flip();
+        int count = pending.remaining();
+        writeFully(pending, written);
+        written += count;
+        pending.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * Closes the channel of a store; kept apart from the store so it can run after the store is collected.
+     */
+    private static final class Closer implements Runnable {
+        private final FileChannel channel;
+        private final Path deleteOnClose;
+
+        Closer(FileChannel channel, Path deleteOnClose) {
+            this.channel = channel;
+            this.deleteOnClose = deleteOnClose;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                if (deleteOnClose != null) {
+                    Files.deleteIfExists(deleteOnClose);
+                }
+            } catch (IOException e) {
+                // The segment is unreachable either way
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package quiz;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Frame: A reusable byte buffer that one screen is composed into before it is written.
+ * Writing a whole screen with a single write keeps terminals and SSH sessions from seeing
+ * dozens of tiny writes. Text is UTF-8 encoded straight into the buffer, and constant
+ * segments such as ANSI codes can be pre-encoded once with {@link #encode(String)}.
+ * Each thread reuses its own frame, so composing a screen does not allocate.
+ */
+public final class Frame {
+    private static final ThreadLocal<Frame> CURRENT = ThreadLocal.withInitial(Frame::new);
+    private static final byte[] NEWLINE = encode(System.lineSeparator());
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000,
+            10_000_000, 100_000_000, 1_000_000_000};
+
+    private byte[] bytes = new byte[4096];
+    private int length;
+
+    Frame() {
+    }
+
+    /**
+     * Starts composing a new screen on the calling thread's frame.
+     *
+     * @return The emptied frame
+     */
+    public static Frame begin() {
+        Frame frame = CURRENT.get();
+        frame.length = 0;
+        return frame;
+    }
+
+    /**
+     * Encodes a constant once so it can be appended without re-encoding.
+     *
+     * @param text The constant text
+     * @return UTF-8 bytes of the text
+     */
+    public static byte[] encode(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends pre-encoded bytes.
+     */
+    public Frame append(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+        length += encoded.length;
+        return this;
+    }
+
+    /**
+     * Appends pre-encoded bytes a number of times.
+     */
+    public Frame repeat(byte[] encoded, int times) {
+        for (int i = 0; i < times; i++) {
+            append(encoded);
+        }
+        return this;
+    }
+
+    /**
+     * Appends text, encoding it as UTF-8.
+     */
+    public Frame append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    /**
+     * Appends part of a text, encoding it as UTF-8.
+     *
+     * @param text The text
+     * @param start Index of the first char to append
+     * @param end Index after the last char to append
+     */
+    public Frame append(CharSequence text, int start, int end) {
+        ensureCapacity((end - start) * 3);
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                bytes[length++] = '?'; // Unpaired surrogate
+            } else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends a number without creating a String.
+     */
+    public Frame append(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return append(Long.toString(value));
+            }
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            bytes[length++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+        // Digits were written backwards
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte tmp = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = tmp;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a number with one decimal place, like {@code String.format("%.1f", value)}.
+     */
+    public Frame appendOneDecimal(double value) {
+        return appendDecimal(value, 1);
+    }
+
+    /**
+     * Appends a number with a fixed number of decimal places, like {@code String.format("%.2f", value)}.
+     *
+     * @param value The number
+     * @param decimals Decimal places, 0 to 9
+     */
+    public Frame appendDecimal(double value, int decimals) {
+        if (decimals < 0 || decimals > 9) {
+            throw new IllegalArgumentException("Decimal places must be between 0 and 9");
+        }
+        long scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round(value * scale);
+        if (scaled < 0) {
+            ensureCapacity(1);
+            bytes[length++] = '-';
+            scaled = -scaled;
+        }
+        append(scaled / scale);
+        if (decimals > 0) {
+            ensureCapacity(1 + decimals);
+            bytes[length++] = '.';
+            long fraction = scaled % scale;
+            for (int i = decimals - 1; i >= 0; i--) {
+                bytes[length + i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            length += decimals;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a number of spaces.
+     */
+    public Frame spaces(int count) {
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            bytes[length++] = ' ';
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current line.
+     */
+    public Frame newline() {
+        return append(NEWLINE);
+    }
+
+    /**
+     * Appends text and ends the line.
+     */
+    public Frame line(CharSequence text) {
+        return append(text).newline();
+    }
+
+    /**
+     * Appends pre-encoded bytes and ends the line.
+     */
+    public Frame line(byte[] encoded) {
+        return append(encoded).newline();
+    }
+
+    /**
+     * Removes ANSI escape sequences and control characters other than line breaks and tabs,
+     * leaving plain text.
+     */
+    public Frame stripControlCodes() {
+        int write = 0;
+        int read = 0;
+        while (read < length) {
+            byte b = bytes[read++];
+            if (b == 0x1B) {
+                // CSI sequences end with a byte in the range '@'..'~'; others are ESC plus one byte
+                if (read < length && bytes[read] == '[') {
+                    read++;
+                    while (read < length && (bytes[read] < 0x40 || bytes[read] > 0x7E)) {
+                        read++;
+                    }
+                }
+                read++;
+            } else if (b >= 0x20 || b < 0 || b == '\n' || b == '\r' || b == '\t') {
+                bytes[write++] = b;
+            }
+        }
+        length = Math.min(write, length);
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes composed so far.
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Right-aligns the bytes appended since a mark by inserting spaces before them.
+     *
+     * @param from Size of the frame before the padded text was appended
+     * @param width Minimum width of the text
+     */
+    void padStart(int from, int width) {
+        int padding = width - (length - from);
+        if (padding <= 0) {
+            return;
+        }
+        ensureCapacity(padding);
+        System.arraycopy(bytes, from, bytes, from + padding, length - from);
+        Arrays.fill(bytes, from, from + padding, (byte) ' ');
+        length += padding;
+    }
+
+    /**
+     * Decodes the bytes appended since a mark and removes them from the frame.
+     *
+     * @param from Size of the frame before the text was appended
+     * @return The text
+     */
+    String take(int from) {
+        String text = new String(bytes, from, length - from, StandardCharsets.UTF_8);
+        length = from;
+        return text;
+    }
+
+    /**
+     * Writes the whole frame with one write and flushes it.
+     *
+     * @param out The stream to write to
+     */
+    public void writeTo(PrintStream out) {
+        out.write(bytes, 0, length);
+        out.flush();
+        length = 0;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package quiz;
+
+import java.util.TreeSet;
+
+/**
+ * GameUI: Provides terminal game-like UI with animations, colors, and effects.
+ * Makes the quiz application feel like a proper interactive game.
+ */
+public class GameUI {
+    // ANSI Color codes
+    private static final String RESET = "\u001B[0m";
+    private static final String BOLD = "\u001B[1m";
+    private static final String RED = "\u001B[31m";
+    private static final String GREEN = "\u001B[32m";
+    private static final String YELLOW = "\u001B[33m";
+    private static final String BLUE = "\u001B[34m";
+    private static final String MAGENTA = "\u001B[35m";
+    private static final String CYAN = "\u001B[36m";
+    private static final String WHITE = "\u001B[37m";
+    
+    // Background colors
+    private static final String BG_BLUE = "\u001B[44m";
+    private static final String BG_GREEN = "\u001B[42m";
+    private static final String BG_RED = "\u001B[41m";
+
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+    private static final boolean IS_WINDOWS = System.getProperty("os.name").contains("Windows");
+
+    // Where screens go: chosen with -Dquiz.renderer=ansi|plain|none, overridable per thread
+    private static volatile Renderer defaultRenderer = createRenderer(System.getProperty("quiz.renderer", "ansi"));
+    private static final ThreadLocal<Renderer> THREAD_RENDERER = new ThreadLocal<>();
+
+    // Pre-encoded screen parts, reused by every frame
+    private static final byte[][] PROGRESS_BARS = new byte[21][];
+    private static final byte[][] STATISTICS_BARS = new byte[21][];
+    private static final byte[] QUESTION_BOX_TOP = Frame.encode("  " + MAGENTA + "┌" + "─".repeat(54) + "┐" + RESET);
+    private static final byte[] QUESTION_BOX_BOTTOM = Frame.encode("  " + MAGENTA + "└" + "─".repeat(54) + "┘" + RESET);
+
+    // Layouts compiled once into pre-encoded segments and typed slots
+    private static final TextTemplate RESULT_CARD = TextTemplate.compile("%n%n"
+            + "  " + MAGENTA + BOLD + "╔════════════════════════════════════════════════════════╗" + RESET + "%n"
+            + "  " + MAGENTA + BOLD + "║" + RESET + "         " + YELLOW + BOLD + "⚔️  QUEST COMPLETE!  ⚔️" + RESET + "             " + MAGENTA + BOLD + "║" + RESET + "%n"
+            + "  " + MAGENTA + BOLD + "╚════════════════════════════════════════════════════════╝" + RESET + "%n"
+            + "%n"
+            + "  " + CYAN + "Adventurer: " + RESET + BOLD + "%s" + RESET + "%n"
+            + "  " + CYAN + "Questions Conquered: " + RESET + BOLD + "%d/%d" + RESET + "%n"
+            + "  " + CYAN + "Victory Rate: " + RESET + BOLD + "%.1f%%" + RESET + "%n"
+            + "  " + CYAN + "Time in Arena: " + RESET + BOLD + "%d seconds" + RESET + "%n"
+            + "%n"
+            + "  " + CYAN + "Final Grade: " + RESET + "%s%s%s" + RESET + "%n"
+            + "%n"
+            + "  " + MAGENTA + BOLD + "════════════════════════════════════════════════════════" + RESET + "%n"
+            + "%n");
+    private static final TextTemplate STATISTICS_SUMMARY = TextTemplate.compile("%n%n"
+            + "  " + BOLD + CYAN + "╔════════════════════════════════════════════════════════╗" + RESET + "%n"
+            + "  " + BOLD + CYAN + "║         📊 YOUR LEGENDARY ACHIEVEMENTS 📊             ║" + RESET + "%n"
+            + "  " + BOLD + CYAN + "╚════════════════════════════════════════════════════════╝" + RESET + "%n"
+            + "%n%n"
+            + "  " + YELLOW + BOLD + "Quests Completed: " + RESET + CYAN + "%d" + RESET + "%n"
+            + "  " + YELLOW + BOLD + "Total Questions Answered: " + RESET + CYAN + "%d" + RESET + "%n"
+            + "  " + YELLOW + BOLD + "Correct Answers: " + RESET + GREEN + "%d" + RESET + "%n"
+            + "  " + YELLOW + BOLD + "Average Victory Rate: " + RESET + BLUE + "%.1f%%" + RESET + "%n"
+            + "%n"
+            + "  " + CYAN + "Overall Progress: [" + RESET);
+    private static final TextTemplate STATISTICS_BAR_END = TextTemplate.compile(RESET + "] %.1f%%%n");
+
+    // Animations are immutable, so the fixed ones are built once
+    private static final String LINE = "  " + CYAN + "════════════════════════════════════════════════════════" + RESET;
+    private static final Animation CORRECT_ANSWER = Animation.builder()
+            .write("  ")
+            .step("\b\b⭐ ", 150)
+            .step("\b\b✨ ", 150)
+            .step("\b\b⭐ ", 150)
+            .step("\b\b✨ ", 150)
+            .write(GREEN + BOLD + "CORRECT! +10 Points!" + RESET + System.lineSeparator() + System.lineSeparator())
+            .build();
+    private static final Animation VICTORY = Animation.builder()
+            .step(System.lineSeparator(), 0)
+            .step("                    ╰(◡´◕ ¯ palms are sweaty ¯◕´◡)╯" + System.lineSeparator(), 300)
+            .step(System.lineSeparator(), 300)
+            .step("          " + BOLD + YELLOW + "🎊 YOU'VE CONQUERED THIS CHALLENGE! 🎊" + RESET + System.lineSeparator(), 300)
+            .build();
+
+    static {
+        for (int filled = 0; filled <= 20; filled++) {
+            PROGRESS_BARS[filled] = Frame.encode("█".repeat(filled) + "░".repeat(20 - filled));
+            STATISTICS_BARS[filled] = Frame.encode((GREEN + "█").repeat(filled) + "░".repeat(20 - filled));
+        }
+    }
+
+    // ==================== RENDERER ====================
+
+    /**
+     * Creates a renderer by name: "ansi" (default), "plain" or "none".
+     *
+     * @param name The renderer name
+     * @return A renderer writing to the current System.out
+     */
+    public static Renderer createRenderer(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "ansi" -> new AnsiRenderer();
+            case "plain" -> new PlainRenderer();
+            case "none", "null" -> NullRenderer.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown renderer: " + name);
+        };
+    }
+
+    /**
+     * Sets the renderer used by all threads without their own renderer.
+     */
+    public static void setRenderer(Renderer renderer) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("Renderer cannot be null");
+        }
+        defaultRenderer = renderer;
+    }
+
+    /**
+     * Sets the renderer for the current thread only, e.g. one per simulated player.
+     */
+    public static void setRendererForCurrentThread(Renderer renderer) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("Renderer cannot be null");
+        }
+        THREAD_RENDERER.set(renderer);
+    }
+
+    /**
+     * Removes the renderer of the current thread, so it uses the default again.
+     */
+    public static void clearThreadRenderer() {
+        THREAD_RENDERER.remove();
+    }
+
+    /**
+     * Returns the renderer for the current thread.
+     */
+    public static Renderer renderer() {
+        Renderer renderer = THREAD_RENDERER.get();
+        return renderer != null ? renderer : defaultRenderer;
+    }
+
+    /**
+     * Prints text through the current renderer.
+     */
+    public static void print(String text) {
+        renderer().render(Frame.begin().append(text));
+    }
+
+    /**
+     * Prints a line through the current renderer.
+     */
+    public static void println(String text) {
+        renderer().render(Frame.begin().line(text));
+    }
+
+    /**
+     * Prints an empty line through the current renderer.
+     */
+    public static void println() {
+        renderer().render(Frame.begin().newline());
+    }
+
+    // ==================== SCREENS ====================
+
+    /**
+     * Displays an animated game splash screen on startup.
+     */
+    public static void displaySplash() {
+        clearScreen();
+
+        Animation.Builder splash = Animation.builder()
+                .write("\n\n" + System.lineSeparator())
+                .type("╔════════════════════════════════════════════════════════╗", 20)
+                .type("║                                                        ║", 20)
+                .type("║          " + BOLD + CYAN + "⚡ Q U I Z   C H A M P I O N ⚡" + RESET + "           ║", 20)
+                .type("║                   " + YELLOW + "Your Quest Awaits!" + RESET + "              ║", 20)
+                .type("║                                                        ║", 20)
+                .type("╚════════════════════════════════════════════════════════╝", 20)
+                .write(LINE + System.lineSeparator())
+                .write("\n  " + CYAN + "Loading Quest Data..." + RESET + System.lineSeparator());
+
+        for (int i = 0; i < 3; i++) {
+            splash.write("  ");
+            for (int j = 0; j <= 10; j++) {
+                splash.step("█", 30);
+            }
+            splash.write(" " + (i + 1) + "/3\n");
+        }
+
+        splash.pause(500)
+                .write("\n  " + GREEN + "✓ Ready to begin your adventure!" + RESET + System.lineSeparator())
+                .write(LINE + System.lineSeparator())
+                .pause(1000);
+        renderer().play(splash.build()).join();
+    }
+
+    /**
+     * Displays the main menu with animated styling.
+     */
+    public static void displayMainMenu() {
+        Frame frame = beginScreen();
+        frame.newline().newline();
+
+        box(frame, new String[]{
+            BOLD + CYAN + "═══════════════════════════════════════════════════════" + RESET,
+            "                    " + YELLOW + "⚔️  MAIN QUEST MENU  ⚔️" + RESET,
+            BOLD + CYAN + "═══════════════════════════════════════════════════════" + RESET
+        });
+
+        frame.newline().newline();
+        menuOption(frame, 1, "🎯 START QUEST", "Begin a new quiz challenge");
+        menuOption(frame, 2, "🏆 VIEW ACHIEVEMENTS", "Review your past victories");
+        menuOption(frame, 3, "📖 CODEX", "Learn about this adventure");
+        menuOption(frame, 4, "🚪 EXIT GAME", "Leave the arena");
+
+        frame.newline().newline();
+        box(frame, new String[]{
+            BOLD + CYAN + "═══════════════════════════════════════════════════════" + RESET
+        });
+        renderer().render(frame);
+    }
+
+    /**
+     * Displays available quests with descriptions.
+     */
+    public static void displayQuestSelection() {
+        Frame frame = beginScreen();
+        frame.newline().newline();
+
+        box(frame, new String[]{
+            BOLD + MAGENTA + "╔═══════════════════════════════════════════════════════╗" + RESET,
+            BOLD + MAGENTA + "║         🗺️  CHOOSE YOUR QUEST DIFFICULTY  🗺️         ║" + RESET,
+            BOLD + MAGENTA + "╚═══════════════════════════════════════════════════════╝" + RESET
+        });
+
+        frame.newline().newline();
+        questCard(frame, 1, "NOVICE QUEST", 3, "Perfect for beginners", GREEN);
+        frame.newline();
+        questCard(frame, 2, "WARRIOR'S GAUNTLET", 8, "Test your Java mastery", YELLOW);
+        frame.newline();
+        questCard(frame, 3, "ELITE CHALLENGE", 2, "Only for true champions", RED);
+        frame.newline();
+        questCard(frame, 4, "OOP MASTERY QUEST", 20, "Master Object-Oriented Programming", MAGENTA);
+        frame.newline();
+        questCard(frame, 5, "BACK", 0, "Return to main menu", CYAN);
+
+        frame.newline().newline();
+        renderer().render(frame);
+    }
+
+    /**
+     * Displays a question in game-like format with visual feedback.
+     */
+    public static void displayQuestion(String text, int currentQuestion, int totalQuestions) {
+        Frame frame = Frame.begin();
+        frame.newline().newline();
+
+        // Health bar style progress
+        int progress = (currentQuestion * 100) / totalQuestions;
+        frame.append("  " + CYAN + "Progress: [")
+                .append(PROGRESS_BARS[Math.max(0, Math.min(20, progress / 5))])
+                .append("] ").append(progress).line("%" + RESET);
+
+        frame.newline();
+        frame.append("  " + BOLD + YELLOW + "Question ").append(currentQuestion)
+                .append(" of ").append(totalQuestions).line(RESET);
+        frame.newline();
+
+        // Question box, one row per line of the question text
+        frame.line(QUESTION_BOX_TOP);
+        int start = 0;
+        do {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            frame.append("  " + MAGENTA + "│ " + RESET + BOLD).append(text, start, end)
+                    .spaces(Math.max(0, 52 - (end - start)))
+                    .line(MAGENTA + "│" + RESET);
+            start = end + 1;
+        } while (start < text.length());
+        frame.line(QUESTION_BOX_BOTTOM);
+        frame.newline();
+        renderer().render(frame);
+    }
+
+    /**
+     * Displays answer options with selection styling.
+     */
+    public static void displayAnswerOptions(java.util.List<String> options) {
+        Frame frame = Frame.begin();
+        frame.line("  " + CYAN + BOLD + "Choose wisely:" + RESET + "\n");
+        for (int i = 0; i < options.size(); i++) {
+            String color = switch (i) {
+                case 0 -> BLUE;
+                case 1 -> GREEN;
+                case 2 -> YELLOW;
+                default -> RED;
+            };
+
+            frame.append("    " + BOLD).append(color).append(i + 1).append(")" + RESET + "  ")
+                    .line(options.get(i));
+        }
+        frame.newline();
+        renderer().render(frame);
+    }
+
+    /**
+     * Shows correct answer feedback with animation.
+     */
+    public static void showCorrectAnswer() {
+        renderer().play(CORRECT_ANSWER).join();
+    }
+
+    /**
+     * Shows incorrect answer feedback with animation.
+     */
+    public static void showIncorrectAnswer() {
+        renderer().render(Frame.begin()
+                .line("  " + RED + BOLD + "❌ WRONG! But don't give up!" + RESET)
+                .newline());
+    }
+
+    /**
+     * Displays a result card with grade and stats.
+     */
+    public static void displayResultCard(String playerName, int correct, int total, double percentage, String grade, long timeTaken) {
+        // Grade with special styling
+        String badge;
+        String remark;
+        if (percentage >= 90) {
+            badge = GREEN + BOLD + "🏅 ";
+            remark = " (Legendary!)";
+        } else if (percentage >= 80) {
+            badge = CYAN + BOLD + "⭐ ";
+            remark = " (Excellent!)";
+        } else if (percentage >= 70) {
+            badge = YELLOW + BOLD + "✨ ";
+            remark = " (Good!)";
+        } else if (percentage >= 60) {
+            badge = YELLOW + BOLD + "💫 ";
+            remark = " (Keep trying!)";
+        } else {
+            badge = RED + BOLD + "⚠️  ";
+            remark = " (Don't give up!)";
+        }
+        Frame frame = beginScreen();
+        RESULT_CARD.into(frame)
+                .text(playerName)
+                .number(correct).number(total)
+                .decimal(percentage)
+                .number(timeTaken)
+                .text(badge).text(grade).text(remark)
+                .end();
+        renderer().render(frame);
+    }
+
+    /**
+     * Shows victory animation and statistics.
+     */
+    public static void showVictoryAnimation() {
+        renderer().play(VICTORY).join();
+    }
+
+    /**
+     * Displays statistics with visual bars.
+     */
+    public static void displayStatistics(int totalQuizzes, int totalCorrect, int totalQuestions, double averagePercentage) {
+        Frame frame = statisticsSummary(totalQuizzes, totalCorrect, totalQuestions, averagePercentage);
+        frame.newline().newline();
+        renderer().render(frame);
+    }
+
+    /**
+     * Displays statistics from running totals, with score percentiles and a line per quiz.
+     */
+    public static void displayStatistics(QuizStatistics statistics) {
+        QuizStatistics.Totals overall = statistics.getOverall();
+        Frame frame = statisticsSummary(overall.getResults(), overall.getCorrectAnswers(),
+                overall.getTotalQuestions(), overall.getAveragePercentage());
+
+        frame.newline();
+        frame.append("  " + YELLOW + BOLD + "Victory Rate Percentiles: " + RESET + CYAN)
+                .append("p50 ").append(overall.getPercentile(50))
+                .append("%  p90 ").append(overall.getPercentile(90))
+                .append("%  p99 ").append(overall.getPercentile(99)).line("%" + RESET);
+
+        frame.newline();
+        for (String quizId : new TreeSet<>(statistics.getQuizIds())) {
+            QuizStatistics.Totals quiz = statistics.getQuiz(quizId);
+            frame.append("  " + MAGENTA + "• " + RESET).append(quizId).append(": ")
+                    .append(quiz.getResults()).append(" quests, average ")
+                    .appendOneDecimal(quiz.getAveragePercentage()).append("%, median ")
+                    .append(quiz.getPercentile(50)).line("%");
+        }
+
+        frame.newline().newline();
+        renderer().render(frame);
+    }
+
+    /**
+     * Composes the header, totals and progress bar shared by both statistics screens.
+     */
+    private static Frame statisticsSummary(long totalQuizzes, long totalCorrect, long totalQuestions,
+                                           double averagePercentage) {
+        Frame frame = beginScreen();
+        STATISTICS_SUMMARY.into(frame)
+                .number(totalQuizzes).number(totalQuestions).number(totalCorrect)
+                .decimal(averagePercentage)
+                .end()
+                .append(STATISTICS_BARS[Math.max(0, Math.min(20, (int) (averagePercentage / 5)))]);
+        return STATISTICS_BAR_END.into(frame).decimal(averagePercentage).end();
+    }
+
+    /**
+     * Display about/codex information.
+     */
+    public static void displayCodex() {
+        Frame frame = beginScreen();
+        frame.newline().newline();
+
+        box(frame, new String[]{
+            BOLD + MAGENTA + "╔════════════════════════════════════════════════════════╗" + RESET,
+            BOLD + MAGENTA + "║           📖 THE CODEX - GAME INFORMATION 📖          ║" + RESET,
+            BOLD + MAGENTA + "╚════════════════════════════════════════════════════════╝" + RESET
+        });
+
+        frame.line("\n" + CYAN + BOLD + "🎮 GAME MECHANICS:" + RESET);
+        frame.line("  • Answer multiple-choice questions to gain XP");
+        frame.line("  • Each correct answer awards you 10 points");
+        frame.line("  • Build your achievement history");
+        frame.line("  • Track your overall victory rate\n");
+
+        frame.line(CYAN + BOLD + "⚡ DIFFICULTY LEVELS:" + RESET);
+        frame.line("  🟢 Novice Quest - Start here! (3 questions)");
+        frame.line("  🟡 Warrior's Gauntlet - Prove your skills! (8 questions)");
+        frame.line("  🔴 Elite Challenge - For champions only! (2 questions)\n");
+
+        frame.line(CYAN + BOLD + "🏆 GRADING SYSTEM:" + RESET);
+        frame.line("  🏅 A (90-100%) - Legendary!");
+        frame.line("  ⭐ B (80-89%)  - Excellent!");
+        frame.line("  ✨ C (70-79%)  - Good!");
+        frame.line("  💫 D (60-69%)  - Keep trying!");
+        frame.line("  ⚠️  F (<60%)   - Don't give up!\n");
+
+        frame.line(CYAN + BOLD + "📚 CONCEPTS COVERED:" + RESET);
+        frame.line("  • Java Loops (for, while, do-while)");
+        frame.line("  • Conditionals (if-else, switch)");
+        frame.line("  • Collections (ArrayList, List, Set, Map)\n");
+
+        frame.line("  " + MAGENTA + "════════════════════════════════════════════════════════\n");
+        renderer().render(frame);
+    }
+
+    /**
+     * Displays exit screen with final stats.
+     */
+    public static void displayExitScreen() {
+        renderer().render(beginScreen()
+                .line("\n\n")
+                .line("  " + YELLOW + BOLD + "Thanks for playing Quest Champion!" + RESET)
+                .line("  " + CYAN + "May your code always compile on the first try! 🚀" + RESET)
+                .line("\n"));
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Appends a menu option with number and description.
+     */
+    private static void menuOption(Frame frame, int number, String title, String description) {
+        frame.append("  " + BOLD + BLUE).append(number).append("." + RESET + "  " + BOLD).append(title).line(RESET);
+        frame.append("     " + CYAN).append(description).line(RESET);
+    }
+
+    /**
+     * Appends a quest card with difficulty info.
+     */
+    private static void questCard(Frame frame, int number, String name, int questions, String description, String color) {
+        frame.append("  " + BOLD + BLUE).append(number).append("." + RESET + "  ");
+        frame.append(color).append(BOLD + "┌─ ").append(name);
+        if (questions > 0) {
+            frame.append(" (").append(questions).append("Q)");
+        }
+        frame.line(" ─┐" + RESET);
+        frame.append("     ").append(color).append("└─ ").append(description).line(" ─┘" + RESET);
+    }
+
+    /**
+     * Appends a decorative box.
+     */
+    private static void box(Frame frame, String[] lines) {
+        for (String line : lines) {
+            frame.append("  ").line(line);
+        }
+    }
+
+    /**
+     * Clears the screen through the current renderer.
+     */
+    public static void clearScreen() {
+        renderer().clearScreen();
+    }
+
+    /**
+     * Starts a new full screen. The clear-screen code becomes part of the frame,
+     * except on Windows where the console has to be cleared by a separate command.
+     */
+    private static Frame beginScreen() {
+        if (IS_WINDOWS) {
+            clearScreen();
+            return Frame.begin();
+        }
+        return Frame.begin().append(CLEAR_SCREEN);
+    }
+
+    /**
+     * Pauses execution for a given milliseconds.
+     */
+    public static void pause(int milliseconds) {
+        renderer().delay(milliseconds).join();
+    }
+}
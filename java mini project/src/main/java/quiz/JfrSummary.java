@@ -0,0 +1,123 @@
+package quiz;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JfrSummary: Summarizes the quiz events of a flight recording.
+ * Prints count and duration percentiles per event type, the slowest questions to render
+ * and answer, and the garbage collection pauses that happened during the recording.
+ *
+ * <pre>java -cp take-a-quiz.jar quiz.JfrSummary quiz.jfr</pre>
+ */
+public class JfrSummary {
+    private static final String[] QUIZ_EVENTS = {
+        "quiz.QuizStarted", "quiz.QuestionRendered", "quiz.AnswerReceived",
+        "quiz.AnswerGraded", "quiz.ResultsCalculated", "quiz.ResultsDisplayed"
+    };
+
+    private final Map<String, LatencyHistogram> byEvent = new LinkedHashMap<>();
+    // "quizId #n" -> durations of one event type for one question
+    private final Map<String, LatencyHistogram> renderByQuestion = new TreeMap<>();
+    private final Map<String, LatencyHistogram> waitByQuestion = new TreeMap<>();
+    private long answers;
+    private long correctAnswers;
+    private final LatencyHistogram gcPauses = new LatencyHistogram();
+
+    private JfrSummary() {
+        for (String name : QUIZ_EVENTS) {
+            byEvent.put(name, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Reads a recording and prints its summary.
+     *
+     * @param recording The .jfr file
+     * @param out Where to print the summary
+     */
+    public static void summarize(Path recording, PrintStream out) throws IOException {
+        JfrSummary summary = new JfrSummary();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                summary.add(file.readEvent());
+            }
+        }
+        summary.print(out);
+    }
+
+    private void add(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        long nanos = event.getDuration().toNanos();
+        switch (name) {
+            case "jdk.GarbageCollection" -> gcPauses.record(event.getDuration("sumOfPauses").toNanos());
+            case "quiz.QuestionRendered" -> questionHistogram(renderByQuestion, event).record(nanos);
+            case "quiz.AnswerReceived" -> questionHistogram(waitByQuestion, event).record(nanos);
+            case "quiz.AnswerGraded" -> {
+                answers++;
+                if (event.getBoolean("correct")) {
+                    correctAnswers++;
+                }
+            }
+            default -> { }
+        }
+        LatencyHistogram histogram = byEvent.get(name);
+        if (histogram != null) {
+            histogram.record(nanos);
+        }
+    }
+
+    private static LatencyHistogram questionHistogram(Map<String, LatencyHistogram> map, RecordedEvent event) {
+        String key = event.getString("quizId") + " #" + (event.getInt("questionIndex") + 1);
+        return map.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private void print(PrintStream out) {
+        out.printf("%-24s %10s %12s %12s %12s%n", "event", "count", "p50 µs", "p99 µs", "max µs");
+        for (Map.Entry<String, LatencyHistogram> entry : byEvent.entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue());
+        }
+
+        if (answers > 0) {
+            out.printf("%nAnswers graded: %d, correct: %.1f%%%n", answers, correctAnswers * 100.0 / answers);
+        }
+        printSlowest(out, "Slowest questions to render", renderByQuestion);
+        printSlowest(out, "Slowest questions to answer", waitByQuestion);
+
+        out.println();
+        printRow(out, "GC pauses", gcPauses);
+    }
+
+    private static void printSlowest(PrintStream out, String title, Map<String, LatencyHistogram> byQuestion) {
+        if (byQuestion.isEmpty()) {
+            return;
+        }
+        out.printf("%n%s (by p99):%n", title);
+        byQuestion.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getPercentileNanos(99), a.getValue().getPercentileNanos(99)))
+                .limit(5)
+                .forEach(entry -> printRow(out, "  " + entry.getKey(), entry.getValue()));
+    }
+
+    private static void printRow(PrintStream out, String label, LatencyHistogram histogram) {
+        out.printf("%-24s %,10d %,12.1f %,12.1f %,12.1f%n", label, histogram.getCount(),
+                histogram.getPercentileNanos(50) / 1e3, histogram.getPercentileNanos(99) / 1e3,
+                histogram.getMaxNanos() / 1e3);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java quiz.JfrSummary <recording.jfr>");
+            System.exit(1);
+        }
+        summarize(Paths.get(args[0]), System.out);
+    }
+}
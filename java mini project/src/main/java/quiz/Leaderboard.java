@@ -0,0 +1,142 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Leaderboard: The best K quiz results, ranked by percentage score with faster times first on ties.
+ * Backed by a concurrent skip list, so inserts take O(log K) without a global lock and readers
+ * walk the board without blocking writers. Reads are weakly consistent: a snapshot taken while
+ * results are added reflects the board at some moment during the read.
+ */
+public class Leaderboard {
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingDouble((Entry entry) -> -entry.percentage)
+            .thenComparingLong(entry -> entry.timeTakenNanos)
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(RANKING);
+    // Best entry of each player on the board, so rank lookups skip players who are not on it
+    private final ConcurrentHashMap<String, Entry> bestByPlayer = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates an empty leaderboard.
+     *
+     * @param capacity Number of results kept on the board
+     */
+    public Leaderboard(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Leaderboard capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Offers a result to the board. Results that do not beat the current last place are
+     * rejected without touching the skip list.
+     *
+     * @param result The result to offer
+     * @return true if the result made it onto the board
+     */
+    public boolean offer(QuizResult result) {
+        Entry entry = new Entry(result, sequence.incrementAndGet());
+        if (size.get() >= capacity) {
+            Entry last = lastOrNull();
+            if (last != null && RANKING.compare(entry, last) > 0) {
+                return false;
+            }
+        }
+        entries.add(entry);
+        bestByPlayer.merge(result.getPlayerName(), entry,
+                (current, offered) -> RANKING.compare(offered, current) < 0 ? offered : current);
+        if (size.incrementAndGet() > capacity) {
+            // A concurrent insert may have pushed this entry to last place already
+            Entry evicted = entries.pollLast();
+            if (evicted != null) {
+                size.decrementAndGet();
+                bestByPlayer.remove(evicted.result.getPlayerName(), evicted);
+                return evicted != entry;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the best results, best first.
+     *
+     * @param limit Maximum number of results to return
+     * @return A snapshot of the top of the board
+     */
+    public List<QuizResult> top(int limit) {
+        List<QuizResult> top = new ArrayList<>(Math.min(limit, capacity));
+        for (Entry entry : entries) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(entry.result);
+        }
+        return top;
+    }
+
+    /**
+     * Returns the rank of a player's best result on the board.
+     * Players who are not on the board are answered in O(1); otherwise the entries ahead
+     * of the player are counted, so the cost grows with the rank, not with K.
+     *
+     * @param playerName Name of the player
+     * @return 1-based rank, or -1 if none of the player's results is on the board
+     */
+    public int rankOf(String playerName) {
+        Entry best = bestByPlayer.get(playerName);
+        if (best == null || !entries.contains(best)) {
+            return -1;
+        }
+        return entries.headSet(best).size() + 1;
+    }
+
+    /**
+     * Returns the number of results on the board.
+     */
+    public int size() {
+        return Math.min(size.get(), capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private Entry lastOrNull() {
+        try {
+            return entries.last();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A result with its sort keys. The sequence number keeps equal scores from different
+     * attempts apart, earlier attempts ranking first.
+     */
+    private static final class Entry {
+        final QuizResult result;
+        final double percentage;
+        final long timeTakenNanos;
+        final long sequence;
+
+        Entry(QuizResult result, long sequence) {
+            this.result = result;
+            this.percentage = result.getPercentageScore();
+            this.timeTakenNanos = result.getTimeTakenNanos();
+            this.sequence = sequence;
+        }
+    }
+}
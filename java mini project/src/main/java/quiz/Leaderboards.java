@@ -0,0 +1,64 @@
+package quiz;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leaderboards: A global leaderboard plus one leaderboard per quiz, all fed by the same results.
+ */
+public class Leaderboards {
+    /**
+     * Default number of results kept per board.
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Leaderboard global;
+    private final ConcurrentHashMap<String, Leaderboard> byQuiz = new ConcurrentHashMap<>();
+
+    public Leaderboards() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty leaderboards.
+     *
+     * @param capacity Number of results kept per board
+     */
+    public Leaderboards(int capacity) {
+        this.capacity = capacity;
+        this.global = new Leaderboard(capacity);
+    }
+
+    /**
+     * Offers a result to the global board and to the board of its quiz.
+     *
+     * @param result The result to offer
+     */
+    public void record(QuizResult result) {
+        global.offer(result);
+        byQuiz.computeIfAbsent(result.getQuizId(), id -> new Leaderboard(capacity)).offer(result);
+    }
+
+    public Leaderboard getGlobal() {
+        return global;
+    }
+
+    /**
+     * Returns the board of one quiz.
+     *
+     * @param quizId Id of the quiz
+     * @return The board, or null if the quiz has no results
+     */
+    public Leaderboard getQuiz(String quizId) {
+        return byQuiz.get(quizId);
+    }
+
+    /**
+     * Returns the ids of all quizzes with a board.
+     */
+    public Set<String> getQuizIds() {
+        return Collections.unmodifiableSet(byQuiz.keySet());
+    }
+}
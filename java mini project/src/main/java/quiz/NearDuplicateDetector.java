@@ -0,0 +1,322 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * NearDuplicateDetector: Finds reworded duplicates in a question bank with MinHash and
+ * locality-sensitive hashing, so large imported banks can be cleaned without comparing
+ * every pair of questions.
+ *
+ * A question is reduced to the set of words and adjacent word pairs of its text and options.
+ * The similarity of two questions is the Jaccard similarity of those sets, which a MinHash
+ * signature of 64 values estimates. The signature is cut into 16 bands of 4 values; questions
+ * that agree on a whole band become candidates, so pairs above about 0.5 similarity are found
+ * with high probability while dissimilar pairs are almost never compared. Candidates are
+ * verified against the signatures and merged into clusters with a union-find.
+ *
+ * Signatures and bands are computed in parallel on the common fork-join pool. Signatures take
+ * 256 bytes per question; the questions themselves are only read once, so a memory-mapped
+ * QuizPack never has to be decoded into the heap as a whole.
+ */
+public class NearDuplicateDetector {
+    public static final double DEFAULT_THRESHOLD = 0.5;
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    // Buckets larger than this only compare neighbours, so generic questions cannot go quadratic
+    private static final int MAX_BUCKET_PAIRS = 64;
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final double threshold;
+
+    public NearDuplicateDetector() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a detector.
+     *
+     * @param threshold Minimum estimated similarity, from 0 to 1, for two questions to be duplicates
+     */
+    public NearDuplicateDetector(double threshold) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Threshold must be above 0 and at most 1");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Groups the near-duplicate questions of a bank.
+     *
+     * @param questions The bank; read in parallel, so it must allow concurrent get calls
+     * @return Clusters of two or more similar questions, largest first
+     */
+    public List<Cluster> findClusters(List<Question> questions) {
+        int n = questions.size();
+        int[] signatures = new int[n * HASHES];
+        IntStream.range(0, n).parallel().forEach(i -> signature(questions.get(i), signatures, i * HASHES));
+
+        long[][] pairsByBand = new long[BANDS][];
+        IntStream.range(0, BANDS).parallel().forEach(band -> pairsByBand[band] = similarPairs(signatures, n, band));
+
+        UnionFind clusters = new UnionFind(n);
+        for (long[] pairs : pairsByBand) {
+            for (long pair : pairs) {
+                clusters.union((int) (pair >>> 32), (int) pair);
+            }
+        }
+        return clusters.groups();
+    }
+
+    /**
+     * Computes the MinHash signature of a question.
+     *
+     * @param question The question
+     * @return 64 minimum hash values
+     */
+    public static int[] signature(Question question) {
+        int[] signature = new int[HASHES];
+        signature(question, signature, 0);
+        return signature;
+    }
+
+    /**
+     * Estimates the similarity of two questions from their signatures.
+     *
+     * @return Share of equal signature values, from 0 to 1
+     */
+    public static double estimateSimilarity(int[] a, int[] b) {
+        return matches(a, 0, b, 0) / (double) HASHES;
+    }
+
+    /**
+     * Computes the exact Jaccard similarity of two questions' word sets.
+     *
+     * @return Similarity from 0 (nothing shared) to 1 (same words and word pairs)
+     */
+    public static double similarity(Question a, Question b) {
+        Set<Long> shinglesA = new HashSet<>();
+        Set<Long> shinglesB = new HashSet<>();
+        forEachShingle(a, shinglesA::add);
+        forEachShingle(b, shinglesB::add);
+        if (shinglesA.isEmpty() && shinglesB.isEmpty()) {
+            return 1;
+        }
+        int union = shinglesA.size();
+        int intersection = 0;
+        for (Long shingle : shinglesB) {
+            if (shinglesA.contains(shingle)) {
+                intersection++;
+            } else {
+                union++;
+            }
+        }
+        return (double) intersection / union;
+    }
+
+    // ==================== SIGNATURES ====================
+
+    private static void signature(Question question, int[] signatures, int offset) {
+        Arrays.fill(signatures, offset, offset + HASHES, Integer.MAX_VALUE);
+        forEachShingle(question, shingle -> {
+            for (int h = 0; h < HASHES; h++) {
+                // Drop the sign so all values compare in the same range
+                int value = (int) (mix(shingle ^ SEEDS[h]) >>> 33);
+                if (value < signatures[offset + h]) {
+                    signatures[offset + h] = value;
+                }
+            }
+        });
+    }
+
+    /**
+     * Feeds the hash of every word and adjacent word pair of the text and of each option.
+     */
+    private static void forEachShingle(Question question, LongConsumer consumer) {
+        shingles(question.getQuestionText(), consumer);
+        for (String option : question.getOptions()) {
+            shingles(option, consumer);
+        }
+    }
+
+    private static void shingles(String text, LongConsumer consumer) {
+        long previous = 0;
+        boolean first = true;
+        for (String term : QuestionIndex.tokenize(text)) {
+            long word = mix(term.hashCode() * 0x9E3779B97F4A7C15L + term.length());
+            consumer.accept(word);
+            if (!first) {
+                consumer.accept(mix(previous * 31 + word));
+            }
+            previous = word;
+            first = false;
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads every input bit over the whole result.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int matches(int[] a, int offsetA, int[] b, int offsetB) {
+        int equal = 0;
+        for (int h = 0; h < HASHES; h++) {
+            if (a[offsetA + h] == b[offsetB + h]) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    // ==================== LOCALITY-SENSITIVE HASHING ====================
+
+    /**
+     * Sorts the questions by the hash of one band and verifies the questions sharing a bucket.
+     *
+     * @return Verified pairs, packed as (first index << 32 | second index)
+     */
+    private long[] similarPairs(int[] signatures, int n, int band) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long hash = band;
+            for (int r = 0; r < ROWS; r++) {
+                hash = mix(hash * 31 + signatures[i * HASHES + band * ROWS + r]);
+            }
+            keys[i] = (hash & 0xFFFFFFFF00000000L) | i;
+        }
+        Arrays.sort(keys);
+
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        int minMatches = (int) Math.ceil(threshold * HASHES);
+        for (int start = 0, end; start < n; start = end) {
+            end = start + 1;
+            while (end < n && (keys[end] >>> 32) == (keys[start] >>> 32)) {
+                end++;
+            }
+            for (int a = start; a < end; a++) {
+                int last = end - start <= MAX_BUCKET_PAIRS ? end : Math.min(end, a + 1 + MAX_BUCKET_PAIRS);
+                for (int b = a + 1; b < last; b++) {
+                    int first = (int) keys[a];
+                    int second = (int) keys[b];
+                    // Buckets also collect unrelated questions whose band hashes collide, so verify
+                    if (matches(signatures, first * HASHES, signatures, second * HASHES) >= minMatches) {
+                        if (pairCount == pairs.length) {
+                            pairs = Arrays.copyOf(pairs, pairCount * 2);
+                        }
+                        pairs[pairCount++] = ((long) first << 32) | second;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, pairCount);
+    }
+
+    // ==================== CLUSTERS ====================
+
+    /**
+     * A group of questions that are near-duplicates of each other, directly or through others.
+     */
+    public static final class Cluster {
+        private final int[] members;
+
+        Cluster(int[] members) {
+            this.members = members;
+        }
+
+        /**
+         * Returns the indices of the questions in the bank, in ascending order.
+         *
+         * @return Indices of the members
+         */
+        public int[] getMembers() {
+            return members.clone();
+        }
+
+        public int size() {
+            return members.length;
+        }
+    }
+
+    /**
+     * Disjoint sets over question indices with path halving and union by size.
+     */
+    private static final class UnionFind {
+        private final int[] parent;
+        private final int[] size;
+
+        UnionFind(int n) {
+            parent = new int[n];
+            size = new int[n];
+            for (int i = 0; i < n; i++) {
+                parent[i] = i;
+                size[i] = 1;
+            }
+        }
+
+        int find(int x) {
+            while (parent[x] != x) {
+                parent[x] = parent[parent[x]];
+                x = parent[x];
+            }
+            return x;
+        }
+
+        void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return;
+            }
+            if (size[rootA] < size[rootB]) {
+                int swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            parent[rootB] = rootA;
+            size[rootA] += size[rootB];
+        }
+
+        List<Cluster> groups() {
+            Map<Integer, int[]> members = new HashMap<>();
+            Map<Integer, Integer> filled = new HashMap<>();
+            for (int i = 0; i < parent.length; i++) {
+                int root = find(i);
+                if (size[root] > 1) {
+                    int[] group = members.computeIfAbsent(root, r -> new int[size[r]]);
+                    int count = filled.merge(root, 1, Integer::sum);
+                    group[count - 1] = i;
+                }
+            }
+            List<Cluster> clusters = new ArrayList<>(members.size());
+            for (int[] group : members.values()) {
+                clusters.add(new Cluster(group));
+            }
+            clusters.sort(Comparator.comparingInt(Cluster::size).reversed()
+                    .thenComparingInt(cluster -> cluster.members[0]));
+            return clusters;
+        }
+    }
+}
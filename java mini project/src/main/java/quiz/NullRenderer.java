@@ -0,0 +1,35 @@
+package quiz;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * NullRenderer: Discards all output and never waits, so headless runs take no wall time.
+ */
+public final class NullRenderer implements Renderer {
+    public static final NullRenderer INSTANCE = new NullRenderer();
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private NullRenderer() {
+    }
+
+    @Override
+    public void render(Frame frame) {
+        // Discarded
+    }
+
+    @Override
+    public CompletableFuture<Void> play(Animation animation) {
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long milliseconds) {
+        return DONE;
+    }
+
+    @Override
+    public void clearScreen() {
+        // Nothing to clear
+    }
+}
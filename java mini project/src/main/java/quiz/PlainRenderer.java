@@ -0,0 +1,62 @@
+package quiz;
+
+import java.io.PrintStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PlainRenderer: Writes screens as plain text without colors, screen clearing or animation delays.
+ * Suited for logs, pipes and captured output in automated runs.
+ */
+public class PlainRenderer implements Renderer {
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final PrintStream out;
+
+    /**
+     * Creates a renderer that always writes to the current System.out.
+     */
+    public PlainRenderer() {
+        this(null);
+    }
+
+    /**
+     * Creates a renderer that writes to the given stream.
+     *
+     * @param out The stream to write to
+     */
+    public PlainRenderer(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void render(Frame frame) {
+        frame.stripControlCodes().writeTo(out());
+    }
+
+    /**
+     * Writes the end result of the animation at once.
+     */
+    @Override
+    public CompletableFuture<Void> play(Animation animation) {
+        Frame frame = Frame.begin();
+        for (int i = 0; i < animation.size(); i++) {
+            frame.append(animation.getText(i));
+        }
+        render(frame);
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> delay(long milliseconds) {
+        return DONE;
+    }
+
+    @Override
+    public void clearScreen() {
+        // Plain text output keeps its history
+    }
+
+    private PrintStream out() {
+        return out != null ? out : System.out;
+    }
+}
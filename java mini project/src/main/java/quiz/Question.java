@@ -0,0 +1,197 @@
+package quiz;
+
+import java.util.List;
+
+/**
+ * Represents a single multiple-choice question in the quiz.
+ * Contains the question text, options, and the correct answer.
+ * Questions are immutable, so one instance can be shared by every quiz and session.
+ *
+ * A question can also be encoded into a {@link StringTable}: it then holds only int ids,
+ * and its text, options and explanation are decoded each time they are read, which in
+ * practice means when they are rendered. The explanation can go to an {@link ExplanationStore}
+ * on disk instead, since it is read only once per question, after the player answers.
+ */
+public final class Question {
+    // Direct-mapped cache of option strings, so repeated options like "true" or "All of the above"
+    // are stored once. It has a fixed size, so banks full of unique options cannot grow it.
+    private static final int OPTION_POOL_SIZE = 4096;
+    private static final String[] OPTION_POOL = new String[OPTION_POOL_SIZE];
+
+    private final String questionText;
+    private final List<String> options;
+    private final int correctAnswerIndex;
+    private final String explanation;
+    // Set for encoded questions, whose string fields are null:
+    // ids holds the text id, the explanation id (-1 for none) and the option ids
+    private final StringTable strings;
+    private final int[] ids;
+    // Holds the explanation instead of the table when set
+    private final ExplanationStore explanations;
+
+    /**
+     * Constructor for creating a new question.
+     *
+     * @param questionText The text of the question
+     * @param options List of possible answers (A, B, C, D, etc.)
+     * @param correctAnswerIndex Index of the correct answer (0-based)
+     * @param explanation Explanation for the correct answer
+     */
+    public Question(String questionText, List<String> options, int correctAnswerIndex, String explanation) {
+        if (correctAnswerIndex < 0 || correctAnswerIndex >= options.size()) {
+            throw new IllegalArgumentException("Correct answer index " + correctAnswerIndex
+                    + " out of range for " + options.size() + " options");
+        }
+        String[] shared = new String[options.size()];
+        for (int i = 0; i < shared.length; i++) {
+            shared[i] = canonicalOption(options.get(i));
+        }
+        this.questionText = questionText;
+        this.options = List.of(shared);
+        this.correctAnswerIndex = correctAnswerIndex;
+        this.explanation = explanation;
+        this.strings = null;
+        this.ids = null;
+        this.explanations = null;
+    }
+
+    private Question(StringTable strings, int[] ids, int correctAnswerIndex, ExplanationStore explanations) {
+        this.questionText = null;
+        this.options = null;
+        this.correctAnswerIndex = correctAnswerIndex;
+        this.explanation = null;
+        this.strings = strings;
+        this.ids = ids;
+        this.explanations = explanations;
+    }
+
+    /**
+     * Returns an equal question whose strings are stored in a table instead of on the question.
+     *
+     * @param table The table to add the strings to; shared by every question of a bank
+     * @return The encoded question
+     */
+    public Question encode(StringTable table) {
+        return encode(table, null);
+    }
+
+    /**
+     * Returns an equal question whose strings are stored in a table, except the explanation,
+     * which is appended to an explanation store and read back from it when shown.
+     *
+     * @param table The table to add the text and options to
+     * @param explanationStore The store to add the explanation to, or null to keep it in the table
+     * @return The encoded question
+     */
+    public Question encode(StringTable table, ExplanationStore explanationStore) {
+        int optionCount = getNumberOfOptions();
+        int[] encoded = new int[2 + optionCount];
+        encoded[0] = table.intern(getQuestionText());
+        String text = getExplanation();
+        if (text == null) {
+            encoded[1] = -1;
+        } else {
+            encoded[1] = explanationStore == null ? table.intern(text) : explanationStore.add(text);
+        }
+        for (int i = 0; i < optionCount; i++) {
+            encoded[2 + i] = table.intern(getOption(i));
+        }
+        return new Question(table, encoded, correctAnswerIndex, explanationStore);
+    }
+
+    // Getters
+    public String getQuestionText() {
+        return strings == null ? questionText : strings.get(ids[0]);
+    }
+
+    /**
+     * Returns the answer options. The list is unmodifiable and shared, not a copy;
+     * for an encoded question it is a view that decodes each option as it is read.
+     *
+     * @return Read-only list of options
+     */
+    public List<String> getOptions() {
+        return strings == null ? options : strings.list(ids, 2, ids.length);
+    }
+
+    /**
+     * Returns a single answer option.
+     *
+     * @param index Index of the option (0-based)
+     * @return The option text
+     */
+    public String getOption(int index) {
+        if (strings == null) {
+            return options.get(index);
+        }
+        return strings.get(ids[2 + java.util.Objects.checkIndex(index, ids.length - 2)]);
+    }
+
+    public int getCorrectAnswerIndex() {
+        return correctAnswerIndex;
+    }
+
+    public String getExplanation() {
+        if (strings == null) {
+            return explanation;
+        }
+        if (ids[1] < 0) {
+            return null;
+        }
+        return explanations == null ? strings.get(ids[1]) : explanations.get(ids[1]);
+    }
+
+    public int getNumberOfOptions() {
+        return strings == null ? options.size() : ids.length - 2;
+    }
+
+    /**
+     * Checks if the given answer index is correct.
+     *
+     * @param answerIndex The index of the user's answer (0-based)
+     * @return true if the answer is correct, false otherwise
+     */
+    public boolean isCorrect(int answerIndex) {
+        return answerIndex == correctAnswerIndex;
+    }
+
+    /**
+     * Returns the correct answer text.
+     *
+     * @return The correct answer as a string
+     */
+    public String getCorrectAnswer() {
+        return getOption(correctAnswerIndex);
+    }
+
+    /**
+     * Returns the user's answer text.
+     *
+     * @param answerIndex The index of the user's answer
+     * @return The user's answer as a string
+     */
+    public String getUserAnswer(int answerIndex) {
+        if (answerIndex < 0 || answerIndex >= getNumberOfOptions()) {
+            return "Invalid";
+        }
+        return getOption(answerIndex);
+    }
+
+    /**
+     * Returns the shared instance of an option string if one is cached.
+     * Races between threads only cost a missed share, since Strings are immutable.
+     *
+     * @param option The option text
+     * @return An equal string, shared across questions when possible
+     */
+    private static String canonicalOption(String option) {
+        int hash = option.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (OPTION_POOL_SIZE - 1);
+        String shared = OPTION_POOL[slot];
+        if (option.equals(shared)) {
+            return shared;
+        }
+        OPTION_POOL[slot] = option;
+        return option;
+    }
+}
@@ -0,0 +1,451 @@
+package quiz;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * QuestionBankLoader: Streams questions from NDJSON or CSV files on disk.
+ * The file is parsed in a single pass through a fixed-size character buffer, so memory use
+ * does not depend on the file size. Each record is validated and turned into a Question
+ * before the next one is read.
+ *
+ * <p>NDJSON: one object per line, for example
+ * <pre>{"question": "2 + 2?", "options": ["3", "4"], "correctAnswerIndex": 1, "explanation": "Basic math."}</pre>
+ *
+ * <p>CSV: {@code question,correctAnswerIndex,explanation,option1,option2,...} with RFC 4180 quoting.
+ * A first line starting with "question" is treated as a header and skipped.
+ */
+public class QuestionBankLoader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_OPTIONS = 2;
+    // AnswerSheet stores an answer in 4 bits, so more options could not be recorded
+    private static final int MAX_OPTIONS = AnswerSheet.MAX_ANSWER_INDEX + 1;
+
+    /**
+     * Supported question bank file formats.
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        /**
+         * Picks the format from the file extension (.ndjson/.jsonl or .csv).
+         *
+         * @param file The question bank file
+         * @return The matching format
+         */
+        public static Format forPath(Path file) {
+            String name = file.getFileName().toString().toLowerCase();
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            throw new IllegalArgumentException("Unknown question bank format: " + file);
+        }
+    }
+
+    private final Reader reader;
+    private final String sourceName;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder text = new StringBuilder(256);
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    private QuestionBankLoader(Reader reader, String sourceName) {
+        this.reader = reader;
+        this.sourceName = sourceName;
+    }
+
+    /**
+     * Streams every question in a file to the consumer.
+     *
+     * @param file The question bank file
+     * @param consumer Receives each question as soon as it is parsed
+     * @return Number of questions read
+     */
+    public static long stream(Path file, Consumer<Question> consumer) throws IOException {
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            return stream(reader, Format.forPath(file), file.toString(), consumer);
+        }
+    }
+
+    /**
+     * Streams every question from a reader to the consumer.
+     *
+     * @param reader Source of the question bank
+     * @param format Format of the data
+     * @param sourceName Name used in error messages
+     * @param consumer Receives each question as soon as it is parsed
+     * @return Number of questions read
+     */
+    public static long stream(Reader reader, Format format, String sourceName, Consumer<Question> consumer) throws IOException {
+        QuestionBankLoader loader = new QuestionBankLoader(reader, sourceName);
+        return format == Format.NDJSON ? loader.readNdjson(consumer) : loader.readCsv(consumer);
+    }
+
+    /**
+     * Loads all questions of a file into a list.
+     *
+     * @param file The question bank file
+     * @return The questions in file order
+     */
+    public static List<Question> load(Path file) throws IOException {
+        List<Question> questions = new ArrayList<>();
+        stream(file, questions::add);
+        return questions;
+    }
+
+    /**
+     * Loads all questions of a file into a list, dictionary-encoded into a string table.
+     * Repeated options and explanations are then stored once for the whole bank.
+     *
+     * @param file The question bank file
+     * @param strings The table to store the strings in
+     * @return The encoded questions in file order
+     */
+    public static List<Question> load(Path file, StringTable strings) throws IOException {
+        return load(file, strings, null);
+    }
+
+    /**
+     * Loads all questions of a file, dictionary-encoded into a string table, with their
+     * explanations appended to an explanation store on disk.
+     *
+     * @param file The question bank file
+     * @param strings The table to store the question texts and options in
+     * @param explanations The store for explanations, or null to keep them in the table
+     * @return The encoded questions in file order
+     */
+    public static List<Question> load(Path file, StringTable strings, ExplanationStore explanations) throws IOException {
+        List<Question> questions = new ArrayList<>();
+        stream(file, question -> questions.add(question.encode(strings, explanations)));
+        strings.trimToSize();
+        return questions;
+    }
+
+    // ==================== NDJSON ====================
+
+    private long readNdjson(Consumer<Question> consumer) throws IOException {
+        long count = 0;
+        int c;
+        while ((c = skipWhitespace()) != -1) {
+            if (c != '{') {
+                throw error("Expected '{' at start of record");
+            }
+            consumer.accept(readJsonRecord());
+            count++;
+        }
+        return count;
+    }
+
+    private Question readJsonRecord() throws IOException {
+        int recordLine = line;
+        String questionText = null;
+        String explanation = "";
+        List<String> options = null;
+        int correctAnswerIndex = -1;
+
+        int c = skipWhitespace();
+        while (c != '}') {
+            if (c != '"') {
+                throw error("Expected field name");
+            }
+            String key = readJsonString();
+            expect(':');
+            switch (key) {
+                case "question" -> questionText = readJsonStringValue(key);
+                case "explanation" -> explanation = readJsonStringValue(key);
+                case "correctAnswerIndex" -> correctAnswerIndex = readJsonInt(key);
+                case "options" -> options = readJsonStringArray();
+                default -> skipJsonValue();
+            }
+            c = skipWhitespace();
+            if (c == ',') {
+                c = skipWhitespace();
+            } else if (c != '}') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+        return build(recordLine, questionText, options, correctAnswerIndex, explanation);
+    }
+
+    private String readJsonStringValue(String key) throws IOException {
+        if (skipWhitespace() != '"') {
+            throw error("Field '" + key + "' must be a string");
+        }
+        return readJsonString();
+    }
+
+    /**
+     * Reads the rest of a JSON string whose opening quote was already consumed.
+     */
+    private String readJsonString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == -1 || c == '\n') {
+                throw error("Unterminated string");
+            }
+            if (c == '"') {
+                return text.toString();
+            }
+            if (c != '\\') {
+                text.append((char) c);
+                continue;
+            }
+            int escaped = read();
+            switch (escaped) {
+                case '"', '\\', '/' -> text.append((char) escaped);
+                case 'n' -> text.append('\n');
+                case 't' -> text.append('\t');
+                case 'r' -> text.append('\r');
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'u' -> {
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw error("Invalid \\u escape");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    text.append((char) code);
+                }
+                default -> throw error("Invalid escape sequence");
+            }
+        }
+    }
+
+    private int readJsonInt(String key) throws IOException {
+        int c = skipWhitespace();
+        if (c < '0' || c > '9') {
+            throw error("Field '" + key + "' must be a non-negative integer");
+        }
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw error("Field '" + key + "' is too large");
+            }
+            c = read();
+        }
+        unread();
+        return (int) value;
+    }
+
+    private List<String> readJsonStringArray() throws IOException {
+        if (skipWhitespace() != '[') {
+            throw error("Field 'options' must be an array of strings");
+        }
+        List<String> options = new ArrayList<>(4);
+        int c = skipWhitespace();
+        while (c != ']') {
+            if (c != '"') {
+                throw error("Field 'options' must be an array of strings");
+            }
+            options.add(readJsonString());
+            c = skipWhitespace();
+            if (c == ',') {
+                c = skipWhitespace();
+            } else if (c != ']') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Skips a value of an unknown field, including nested arrays and objects.
+     */
+    private void skipJsonValue() throws IOException {
+        int c = skipWhitespace();
+        if (c == '"') {
+            readJsonString();
+            return;
+        }
+        if (c == '{' || c == '[') {
+            int depth = 1;
+            while (depth > 0) {
+                c = read();
+                if (c == -1) {
+                    throw error("Unexpected end of file");
+                } else if (c == '"') {
+                    readJsonString();
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            }
+            return;
+        }
+        // Number, true, false or null
+        while (c != ',' && c != '}' && c != ']' && c != -1 && !Character.isWhitespace(c)) {
+            c = read();
+        }
+        unread();
+    }
+
+    private void expect(char expected) throws IOException {
+        if (skipWhitespace() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    // ==================== CSV ====================
+
+    private long readCsv(Consumer<Question> consumer) throws IOException {
+        long count = 0;
+        List<String> fields = new ArrayList<>(8);
+        boolean firstRecord = true;
+        while (true) {
+            int recordLine = line;
+            if (!readCsvRecord(fields)) {
+                return count;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue; // Blank line
+            }
+            if (firstRecord && fields.get(0).trim().equalsIgnoreCase("question")) {
+                firstRecord = false;
+                continue; // Header
+            }
+            firstRecord = false;
+
+            if (fields.size() < 3 + MIN_OPTIONS) {
+                throw error(recordLine, "Expected question, correctAnswerIndex, explanation and at least "
+                        + MIN_OPTIONS + " options");
+            }
+            int correctAnswerIndex;
+            try {
+                correctAnswerIndex = Integer.parseInt(fields.get(1).trim());
+            } catch (NumberFormatException e) {
+                throw error(recordLine, "correctAnswerIndex must be an integer");
+            }
+            consumer.accept(build(recordLine, fields.get(0), new ArrayList<>(fields.subList(3, fields.size())),
+                    correctAnswerIndex, fields.get(2)));
+            count++;
+        }
+    }
+
+    /**
+     * Reads one CSV record, which may span lines inside quoted fields.
+     *
+     * @return false at end of input
+     */
+    private boolean readCsvRecord(List<String> fields) throws IOException {
+        fields.clear();
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        while (true) {
+            text.setLength(0);
+            if (c == '"') {
+                while (true) {
+                    c = read();
+                    if (c == -1) {
+                        throw error("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            break; // Closing quote; a doubled quote is a literal quote
+                        }
+                    }
+                    text.append((char) c);
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    text.append((char) c);
+                    c = read();
+                }
+            }
+            fields.add(text.toString());
+
+            if (c == ',') {
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                c = read();
+                if (c != '\n') {
+                    unread();
+                }
+            } else if (c != '\n' && c != -1) {
+                throw error("Unexpected character after quoted field");
+            }
+            return true;
+        }
+    }
+
+    // ==================== SHARED HELPERS ====================
+
+    private Question build(int recordLine, String questionText, List<String> options,
+                           int correctAnswerIndex, String explanation) {
+        if (questionText == null || questionText.isBlank()) {
+            throw error(recordLine, "Missing question text");
+        }
+        if (options == null || options.size() < MIN_OPTIONS || options.size() > MAX_OPTIONS) {
+            throw error(recordLine, "A question needs between " + MIN_OPTIONS + " and " + MAX_OPTIONS + " options");
+        }
+        if (correctAnswerIndex < 0 || correctAnswerIndex >= options.size()) {
+            throw error(recordLine, "correctAnswerIndex must be between 0 and " + (options.size() - 1));
+        }
+        return new Question(questionText, options, correctAnswerIndex, explanation);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /**
+     * Steps back over the last character read. Only valid directly after a successful read().
+     */
+    private void unread() {
+        if (position > 0) {
+            position--;
+            if (buffer[position] == '\n') {
+                line--;
+            }
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+        return c;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(line, message);
+    }
+
+    private IllegalArgumentException error(int atLine, String message) {
+        return new IllegalArgumentException(sourceName + ":" + atLine + ": " + message);
+    }
+}
@@ -0,0 +1,451 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * QuestionIndex: An in-memory inverted index over question texts, options and explanations,
+ * so authors can find existing questions before adding duplicates.
+ *
+ * Text is split into lowercase runs of letters and digits. Every term keeps a posting list of
+ * the questions containing it and the positions where it occurs, stored in growable int arrays
+ * rather than boxed collections. Questions get ascending ids as they are added, so posting lists
+ * stay sorted and the index grows incrementally without rebuilding.
+ *
+ * Query syntax:
+ * <pre>
+ * hash map            questions containing every word (AND)
+ * hash OR tree        questions containing any of the words (OR)
+ * "hash map" java     questions containing the exact phrase and every other word
+ * </pre>
+ * Results are ranked by TF-IDF, normalized by the length of the question. An AND or phrase query
+ * costs about the length of its rarest term's posting list, so queries with at least one distinctive
+ * word stay well under a millisecond over a million questions.
+ * Searches run concurrently; adding takes a short exclusive lock.
+ */
+public class QuestionIndex {
+    private static final Pattern PHRASE = Pattern.compile("\"([^\"]*)\"?");
+    // Leaves a hole between fields, so a phrase never matches across question, options and explanation
+    private static final int FIELD_GAP = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private Question[] questions = new Question[16];
+    private int[] lengths = new int[16];
+    private int size;
+
+    /**
+     * Adds a question to the index.
+     *
+     * @param question The question to index
+     * @return Id of the question in this index
+     */
+    public int add(Question question) {
+        // Tokenize every field first, so a failure cannot leave a half-indexed question behind
+        List<List<String>> fields = new ArrayList<>(question.getNumberOfOptions() + 2);
+        fields.add(tokenizeField(question.getQuestionText()));
+        for (String option : question.getOptions()) {
+            fields.add(tokenizeField(option));
+        }
+        fields.add(tokenizeField(question.getExplanation()));
+
+        lock.writeLock().lock();
+        try {
+            int id = size;
+            if (id == questions.length) {
+                questions = Arrays.copyOf(questions, id * 2);
+                lengths = Arrays.copyOf(lengths, id * 2);
+            }
+            int position = indexTerms(id, fields.get(0), 0);
+            for (int field = 1; field < fields.size(); field++) {
+                position = indexTerms(id, fields.get(field), position + FIELD_GAP);
+            }
+            questions[id] = question;
+            lengths[id] = Math.max(1, position);
+            size++;
+            return id;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds several questions, e.g. a whole quiz or question bank.
+     *
+     * @param questions The questions to index
+     */
+    public void addAll(Iterable<Question> questions) {
+        for (Question question : questions) {
+            add(question);
+        }
+    }
+
+    /**
+     * Returns an indexed question.
+     *
+     * @param id Id returned by add
+     * @return The question
+     */
+    public Question get(int id) {
+        lock.readLock().lock();
+        try {
+            if (id < 0 || id >= size) {
+                throw new IndexOutOfBoundsException("Question id " + id + " out of range for " + size + " questions");
+            }
+            return questions[id];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a query and returns the best matches.
+     *
+     * @param query Words, "quoted phrases", or words joined by OR
+     * @param limit Maximum number of results
+     * @return Matches, best first
+     */
+    public List<Hit> search(String query, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        List<List<String>> phrases = new ArrayList<>();
+        Set<String> words = new LinkedHashSet<>();
+        Matcher matcher = PHRASE.matcher(query);
+        StringBuilder rest = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            rest.append(query, end, matcher.start()).append(' ');
+            List<String> phrase = tokenize(matcher.group(1));
+            if (phrase.size() > 1) {
+                phrases.add(phrase);
+            }
+            words.addAll(phrase);
+            end = matcher.end();
+        }
+        rest.append(query, end, query.length());
+
+        boolean any = false;
+        for (String word : rest.toString().split("\\s+")) {
+            if (word.equals("OR")) {
+                any = true;
+            } else {
+                words.addAll(tokenize(word));
+            }
+        }
+        if (words.isEmpty() || limit == 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return any && phrases.isEmpty() ? searchAny(words, limit) : searchAll(words, phrases, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lowercase terms the way the index does.
+     *
+     * @param text Text to split
+     * @return The terms in order
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // ==================== INDEXING ====================
+
+    /**
+     * Splits one field of a question into terms; a missing field, e.g. no explanation, has none.
+     */
+    private static List<String> tokenizeField(String text) {
+        return text == null ? Collections.emptyList() : tokenize(text);
+    }
+
+    /**
+     * Adds the terms of one field, numbering them from the given position.
+     *
+     * @return The position after the last term
+     */
+    private int indexTerms(int id, List<String> terms, int position) {
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new Postings()).add(id, position++);
+        }
+        return position;
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * AND query: walks the shortest posting list and skips ahead in the others.
+     * Cost grows with the shortest list, so phrases made only of very common words are the slowest.
+     */
+    private List<Hit> searchAll(Set<String> words, List<List<String>> phrases, int limit) {
+        List<String> terms = new ArrayList<>(words);
+        Postings[] lists = new Postings[terms.size()];
+        for (int t = 0; t < lists.length; t++) {
+            lists[t] = postings.get(terms.get(t));
+            if (lists[t] == null) {
+                return Collections.emptyList();
+            }
+        }
+        // Terms from shortest to longest posting list; cursors stay indexed by term
+        int[] order = new int[lists.length];
+        for (int t = 0; t < order.length; t++) {
+            order[t] = t;
+        }
+        order = Arrays.stream(order).boxed()
+                .sorted((a, b) -> Integer.compare(lists[a].docCount, lists[b].docCount))
+                .mapToInt(Integer::intValue).toArray();
+        int[][] phraseTerms = new int[phrases.size()][];
+        for (int p = 0; p < phraseTerms.length; p++) {
+            phraseTerms[p] = phrases.get(p).stream().mapToInt(terms::indexOf).toArray();
+        }
+
+        int[] cursors = new int[lists.length];
+        PriorityQueue<Hit> best = new PriorityQueue<>(Hit.WORST_FIRST);
+        Postings shortest = lists[order[0]];
+        candidates:
+        for (int c = 0; c < shortest.docCount; c++) {
+            int doc = shortest.docs[c];
+            cursors[order[0]] = c;
+            for (int o = 1; o < order.length; o++) {
+                int t = order[o];
+                cursors[t] = lists[t].advance(cursors[t], doc);
+                if (cursors[t] >= lists[t].docCount) {
+                    break candidates;
+                }
+                if (lists[t].docs[cursors[t]] != doc) {
+                    continue candidates;
+                }
+            }
+            for (int[] phrase : phraseTerms) {
+                if (!containsPhrase(phrase, lists, cursors)) {
+                    continue candidates;
+                }
+            }
+            double score = 0;
+            for (int t = 0; t < lists.length; t++) {
+                score += lists[t].weight(cursors[t], size);
+            }
+            offer(best, doc, score / Math.sqrt(lengths[doc]), limit);
+        }
+        return ranked(best);
+    }
+
+    /**
+     * OR query: merges the posting lists, scoring every question found in at least one.
+     */
+    private List<Hit> searchAny(Set<String> words, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        for (String word : words) {
+            Postings list = postings.get(word);
+            if (list != null) {
+                lists.add(list);
+            }
+        }
+        int[] cursors = new int[lists.size()];
+        PriorityQueue<Hit> best = new PriorityQueue<>(Hit.WORST_FIRST);
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int l = 0; l < lists.size(); l++) {
+                if (cursors[l] < lists.get(l).docCount) {
+                    doc = Math.min(doc, lists.get(l).docs[cursors[l]]);
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                return ranked(best);
+            }
+            double score = 0;
+            for (int l = 0; l < lists.size(); l++) {
+                Postings list = lists.get(l);
+                if (cursors[l] < list.docCount && list.docs[cursors[l]] == doc) {
+                    score += list.weight(cursors[l]++, size);
+                }
+            }
+            offer(best, doc, score / Math.sqrt(lengths[doc]), limit);
+        }
+    }
+
+    /**
+     * Checks that the terms of a phrase occur at consecutive positions in one question.
+     *
+     * @param phrase Indices of the phrase terms into lists and cursors
+     */
+    private static boolean containsPhrase(int[] phrase, Postings[] lists, int[] cursors) {
+        Postings first = lists[phrase[0]];
+        int entry = cursors[phrase[0]];
+        for (int p = first.positionStarts[entry]; p < first.positionEnd(entry); p++) {
+            int start = first.positions[p];
+            boolean found = true;
+            for (int k = 1; k < phrase.length && found; k++) {
+                found = lists[phrase[k]].hasPosition(cursors[phrase[k]], start + k);
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps a match if it is among the best found so far; only those are allocated.
+     */
+    private void offer(PriorityQueue<Hit> best, int doc, double score, int limit) {
+        if (best.size() == limit) {
+            Hit worst = best.peek();
+            // Ids arrive in ascending order, so an equal score never beats an earlier question
+            if (score <= worst.score) {
+                return;
+            }
+            best.poll();
+        }
+        best.add(new Hit(doc, questions[doc], score));
+    }
+
+    private static List<Hit> ranked(PriorityQueue<Hit> best) {
+        Hit[] hits = best.toArray(new Hit[0]);
+        Arrays.sort(hits, Hit.WORST_FIRST.reversed());
+        return Arrays.asList(hits);
+    }
+
+    // ==================== POSTING LISTS ====================
+
+    /**
+     * Questions containing one term, in ascending id order, with the positions of the term in each.
+     * The positions of entry i are positions[positionStarts[i] .. positionStarts[i + 1]).
+     */
+    private static final class Postings {
+        int[] docs = new int[2];
+        int[] positionStarts = new int[2];
+        int[] positions = new int[2];
+        int docCount;
+        int positionCount;
+
+        void add(int doc, int position) {
+            if (docCount == 0 || docs[docCount - 1] != doc) {
+                if (docCount == docs.length) {
+                    docs = Arrays.copyOf(docs, docCount * 2);
+                    positionStarts = Arrays.copyOf(positionStarts, docCount * 2);
+                }
+                docs[docCount] = doc;
+                positionStarts[docCount] = positionCount;
+                docCount++;
+            }
+            if (positionCount == positions.length) {
+                positions = Arrays.copyOf(positions, positionCount * 2);
+            }
+            positions[positionCount++] = position;
+        }
+
+        int positionEnd(int entry) {
+            return entry + 1 < docCount ? positionStarts[entry + 1] : positionCount;
+        }
+
+        boolean hasPosition(int entry, int position) {
+            return Arrays.binarySearch(positions, positionStarts[entry], positionEnd(entry), position) >= 0;
+        }
+
+        /**
+         * TF-IDF weight of the term in one question.
+         */
+        double weight(int entry, int questionCount) {
+            int frequency = positionEnd(entry) - positionStarts[entry];
+            return (1 + Math.log(frequency)) * Math.log(1 + (double) questionCount / docCount);
+        }
+
+        /**
+         * Returns the first entry at or after from whose question id is at least target.
+         * Gallops forward, then binary searches, so skipping far ahead costs O(log distance).
+         */
+        int advance(int from, int target) {
+            if (from >= docCount || docs[from] >= target) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + step;
+            while (high < docCount && docs[high] < target) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            int index = Arrays.binarySearch(docs, low + 1, Math.min(high + 1, docCount), target);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    // ==================== RESULTS ====================
+
+    /**
+     * One matching question and its relevance score.
+     */
+    public static final class Hit {
+        // Lower score first; on equal scores the later question counts as worse
+        static final java.util.Comparator<Hit> WORST_FIRST = (a, b) -> a.score != b.score
+                ? Double.compare(a.score, b.score) : Integer.compare(b.id, a.id);
+
+        private final int id;
+        private final Question question;
+        private final double score;
+
+        Hit(int id, Question question, double score) {
+            this.id = id;
+            this.question = question;
+            this.score = score;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public Question getQuestion() {
+            return question;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package quiz;
+
+/**
+ * QuestionSelector: Decides which question of a quiz an attempt asks next.
+ * QuizEngine asks the quiz in order by default; an adaptive selector instead picks every
+ * question from a larger bank based on the answers given so far.
+ */
+public interface QuestionSelector {
+    /**
+     * Asks every question of the quiz in its original order.
+     */
+    QuestionSelector IN_ORDER = new QuestionSelector() {
+        @Override
+        public QuizSession newSession(Quiz quiz) {
+            return quiz.newSession();
+        }
+
+        @Override
+        public int next(QuizSession session) {
+            return session.isFinished() ? -1 : session.getCurrentIndex();
+        }
+    };
+
+    /**
+     * Starts an attempt whose questions this selector chooses.
+     *
+     * @param quiz The quiz to draw questions from
+     * @return A fresh session
+     */
+    QuizSession newSession(Quiz quiz);
+
+    /**
+     * Picks the question for the current slot of a session.
+     *
+     * @param session The attempt in progress
+     * @return Index of the question in the quiz, or -1 to end the attempt
+     */
+    int next(QuizSession session);
+
+    /**
+     * Called after every graded answer, so the selector can learn from it.
+     *
+     * @param session The attempt the answer belongs to
+     * @param questionIndex Index of the answered question in the quiz
+     * @param correct Whether the answer was correct
+     */
+    default void graded(QuizSession session, int questionIndex, boolean correct) {
+    }
+}
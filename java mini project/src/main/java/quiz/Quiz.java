@@ -0,0 +1,112 @@
+package quiz;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Quiz: The immutable definition of a quiz, its id and its questions.
+ * A Quiz holds no per-player state, so one instance can back any number of concurrent
+ * QuizSessions; reading it needs no locking because nothing about it ever changes.
+ * The one exception is the adaptive selector shared by all adaptive attempts, which is
+ * attached on first use so it lives exactly as long as the quiz does.
+ */
+public final class Quiz {
+    private final String id;
+    private final List<Question> questions;
+    // Guarded by this
+    private AdaptiveSelector adaptiveSelector;
+
+    /**
+     * Creates a quiz over a copy of the given questions.
+     *
+     * @param id Id of the quiz, recorded in results
+     * @param questions The questions in the order they are asked; a Closeable list, like a
+     *                  QuizPack, owns a file and is kept as it is so it can be closed later
+     * @return A quiz that is independent of later changes to the list
+     */
+    public static Quiz of(String id, List<Question> questions) {
+        return new Quiz(id, questions instanceof Closeable ? questions : List.copyOf(questions));
+    }
+
+    /**
+     * Wraps a question list that is already immutable (a cached template, QuizPack or stored bank) without copying it.
+     */
+    Quiz(String id, List<Question> questions) {
+        this.id = id == null ? QuizResult.CUSTOM_QUIZ : id;
+        this.questions = questions;
+    }
+
+    /**
+     * Starts a new attempt at this quiz.
+     *
+     * @return A fresh session with no answers given
+     */
+    public QuizSession newSession() {
+        return new QuizSession(this);
+    }
+
+    /**
+     * Starts an attempt that asks a given number of questions, each chosen with
+     * {@link QuizSession#select(int)} before it is answered, e.g. by a QuestionSelector.
+     *
+     * @param length Number of questions to ask, at most the size of the quiz
+     * @return A fresh session with no questions selected
+     */
+    public QuizSession newSession(int length) {
+        if (length < 1 || length > questions.size()) {
+            throw new IllegalArgumentException("Attempt length must be between 1 and " + questions.size());
+        }
+        return new QuizSession(this, length);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the questions of the quiz in the order they are asked.
+     *
+     * @return Unmodifiable list of questions
+     */
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    public Question getQuestion(int index) {
+        return questions.get(index);
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    /**
+     * Counts the correct answers on a sheet.
+     *
+     * @param answers The answers to grade, one slot per question
+     * @return Number of answered questions whose answer is correct
+     */
+    public int countCorrect(AnswerSheet answers) {
+        int correctCount = 0;
+        for (int i = 0; i < answers.size(); i++) {
+            if (answers.isAnswered(i) && questions.get(i).isCorrect(answers.get(i))) {
+                correctCount++;
+            }
+        }
+        return correctCount;
+    }
+
+    /**
+     * Returns the adaptive selector attached to this quiz, creating it on first use.
+     *
+     * @param factory Creates the selector over this quiz
+     * @return The selector shared by every caller
+     */
+    synchronized AdaptiveSelector getAdaptiveSelector(Function<Quiz, AdaptiveSelector> factory) {
+        if (adaptiveSelector == null) {
+            adaptiveSelector = factory.apply(this);
+        }
+        return adaptiveSelector;
+    }
+}
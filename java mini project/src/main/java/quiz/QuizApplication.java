@@ -0,0 +1,437 @@
+package quiz;
+
+import java.util.*;
+
+/**
+ * Main application entry point for the Quiz Application.
+ * Provides an interactive menu for users to select and take quizzes.
+ * Demonstrates interactive design for both users and developers.
+ */
+public class QuizApplication {
+    private final Scanner scanner;
+    private final QuizStatistics statistics;
+    private final Leaderboards leaderboards;
+    private ResultsJournal journal;
+
+    /**
+     * Constructor to initialize the application.
+     * Results from earlier sessions are loaded from the journal named by the "quiz.journal"
+     * system property (default ~/.take-a-quiz/results.journal, "none" to keep results in memory only).
+     */
+    public QuizApplication() {
+        this(new Scanner(System.in), System.getProperty("quiz.journal",
+                System.getProperty("user.home") + "/.take-a-quiz/results.journal"));
+    }
+
+    /**
+     * Constructor for driving the application from any input, e.g. scripted players.
+     * Output goes to the renderer of the thread that calls run().
+     *
+     * @param scanner The Scanner to read all menu choices and answers from
+     * @param journalLocation Results journal path, or "none" to keep results in memory only
+     */
+    public QuizApplication(Scanner scanner, String journalLocation) {
+        this.scanner = scanner;
+        this.statistics = new QuizStatistics();
+        this.leaderboards = new Leaderboards();
+        this.journal = openJournal(journalLocation);
+    }
+
+    /**
+     * Opens the results journal and replays it into the statistics and leaderboards.
+     *
+     * @param location Journal path, or "none"
+     * @return The journal, or null if results are kept in memory only
+     */
+    private ResultsJournal openJournal(String location) {
+        if (location.equals("none")) {
+            return null;
+        }
+        try {
+            ResultsJournal opened = ResultsJournal.open(java.nio.file.Paths.get(location));
+            opened.replay(this::addResult);
+            return opened;
+        } catch (java.io.IOException e) {
+            GameUI.println("  ⚠️  Could not open results journal (" + e.getMessage() + "). Results will not be saved.");
+            return null;
+        }
+    }
+
+    /**
+     * Stops journaling after a write failure; the journal's failure is already reported.
+     */
+    private void closeFailedJournal() {
+        try {
+            journal.close();
+        } catch (java.io.IOException e) {
+            // Same failure as the append
+        }
+        journal = null;
+    }
+
+    /**
+     * Returns the running statistics of all results of this application.
+     *
+     * @return The statistics
+     */
+    public QuizStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Starts the main application loop.
+     */
+    public void run() {
+        GameUI.displaySplash();
+
+        boolean running = true;
+        while (running) {
+            GameUI.displayMainMenu();
+            int choice = getMenuChoice(1, 4);
+
+            switch (choice) {
+                case 1:
+                    selectAndTakeQuiz();
+                    break;
+                case 2:
+                    viewAllResults();
+                    break;
+                case 3:
+                    GameUI.displayCodex();
+                    pause();
+                    break;
+                case 4:
+                    running = false;
+                    GameUI.displayExitScreen();
+                    break;
+            }
+        }
+
+        scanner.close();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (java.io.IOException e) {
+                GameUI.println("  ⚠️  Could not save results: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Pauses execution and waits for user input.
+     */
+    private void pause() {
+        GameUI.print("\n  Press ENTER to continue...");
+        scanner.nextLine();
+    }
+
+    /**
+     * Displays available quizzes and lets the user select one.
+     */
+    private void selectAndTakeQuiz() {
+        GameUI.displayQuestSelection();
+        int quizChoice = getMenuChoice(1, 5);
+        QuizEngine selectedQuiz = null;
+
+        switch (quizChoice) {
+            case 1 -> selectedQuiz = QuizRepository.createBeginnerQuiz(scanner);
+            case 2 -> selectedQuiz = QuizRepository.createProgrammingQuiz(scanner);
+            case 3 -> selectedQuiz = QuizRepository.createAdvancedQuiz(scanner);
+            case 4 -> selectedQuiz = QuizRepository.createOOPQuiz(scanner);
+            case 5 -> { return; }
+        }
+
+        if (selectedQuiz != null) {
+            takeQuiz(selectedQuiz);
+        }
+    }
+
+    /**
+     * Handles the quiz-taking flow.
+     *
+     * @param quiz The QuizEngine instance to run
+     */
+    private void takeQuiz(QuizEngine quiz) {
+        GameUI.print("\n📝 Enter your name: ");
+        String playerName = "Anonymous Adventurer";
+        try {
+            playerName = scanner.nextLine().trim();
+            if (playerName.isEmpty()) {
+                playerName = "Anonymous Adventurer";
+            }
+        } catch (NoSuchElementException e) {
+            // Input ended - use default name
+        }
+
+        // Start the quiz
+        quiz.startQuiz();
+
+        // Calculate and display results
+        QuizResult result = quiz.calculateResults(playerName);
+        addResult(result);
+        if (journal != null) {
+            try {
+                journal.append(result);
+            } catch (java.io.IOException e) {
+                GameUI.println("  ⚠️  Could not save result (" + e.getMessage() + "). Results will not be saved.");
+                closeFailedJournal();
+            }
+        }
+
+        quiz.displayResults(result);
+        int rank = leaderboards.getQuiz(result.getQuizId()).rankOf(playerName);
+        if (rank > 0) {
+            GameUI.println("\n  🏅 Leaderboard rank on " + result.getQuizId() + ": #" + rank);
+        }
+
+        GameUI.print("\n🔄 Would you like to try another quest? (yes/no): ");
+        String response = "no";
+        try {
+            response = scanner.nextLine().trim().toLowerCase();
+        } catch (NoSuchElementException e) {
+            response = "no"; // Exit if input ends
+        }
+        
+        if (response.equals("yes") || response.equals("y")) {
+            selectAndTakeQuiz();
+        }
+    }
+
+    /**
+     * Displays all quiz results, including those of earlier sessions.
+     */
+    private void viewAllResults() {
+        if (statistics.getOverall().getResults() == 0) {
+            GameUI.clearScreen();
+            GameUI.println("\n  ❌ No quest victories yet. Complete a quest to see your achievements!");
+            pause();
+            return;
+        }
+
+        GameUI.displayStatistics(statistics);
+        pause();
+    }
+
+    /**
+     * Adds a result to the running statistics and the leaderboards.
+     *
+     * @param result The result to add
+     */
+    private void addResult(QuizResult result) {
+        statistics.record(result);
+        leaderboards.record(result);
+    }
+
+    /**
+     * Displays information about the application.
+     */
+    private void showAbout() {
+        GameUI.displayCodex();
+        pause();
+    }
+
+    /**
+     * Gets valid menu choice from the user.
+     *
+     * @param min Minimum valid choice
+     * @param max Maximum valid choice
+     * @return User's menu choice
+     */
+    private int getMenuChoice(int min, int max) {
+        int choice = -1;
+        while (choice < min || choice > max) {
+            try {
+                GameUI.print("  Enter your choice (" + min + "-" + max + "): ");
+                String input = scanner.nextLine().trim();
+
+                if (input.isEmpty()) {
+                    GameUI.println("  ⚠️  Please enter a valid number.");
+                    continue;
+                }
+
+                choice = Integer.parseInt(input);
+                if (choice < min || choice > max) {
+                    GameUI.println("  ⚠️  Please enter a number between " + min + " and " + max + ".");
+                }
+            } catch (NumberFormatException e) {
+                GameUI.println("  ⚠️  Invalid input! Please enter a number.");
+            } catch (NoSuchElementException e) {
+                return min; // Default to first option on EOF
+            }
+        }
+        return choice;
+    }
+
+    /**
+     * Grades a file of pre-recorded answer sheets without any interaction.
+     * Prints one CSV line per sheet and a throughput summary on stderr.
+     *
+     * @param quizId Id of the quiz whose answer key is used
+     * @param sheetsFile File with one sheet per line, or "-" for standard input
+     */
+    private static void gradeSheets(String quizId, String sheetsFile) throws java.io.IOException {
+        QuizEngine quiz = QuizRepository.createQuizById(quizId, null);
+        if (quiz == null) {
+            System.err.println("❌ Unknown quiz: " + quizId);
+            System.exit(1);
+        }
+
+        ExamGrader grader = new ExamGrader(quiz.getQuestions());
+        java.io.BufferedReader reader = sheetsFile.equals("-")
+                ? new java.io.BufferedReader(new java.io.InputStreamReader(System.in))
+                : java.nio.file.Files.newBufferedReader(java.nio.file.Paths.get(sheetsFile));
+        java.io.PrintWriter out = new java.io.PrintWriter(new java.io.BufferedWriter(
+                new java.io.OutputStreamWriter(System.out)));
+
+        long start = System.nanoTime();
+        long graded;
+        try (reader) {
+            graded = grader.gradeStream(ExamGrader.readSheets(reader), result ->
+                    out.println(result.getPlayerName() + "," + result.getCorrectAnswers() + ","
+                            + result.getTotalQuestions() + "," + result.getLetterGrade()));
+        }
+        out.flush();
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.err.printf("✅ Graded %d sheets in %.2f s (%.0f sheets/sec)%n",
+                graded, seconds, seconds > 0 ? graded / seconds : 0);
+    }
+
+    /**
+     * Searches the questions of quizzes or question banks and prints the best matches.
+     *
+     * @param query Words, "quoted phrases", or words joined by OR
+     * @param quizIds Quiz ids or bank files to search; the built-in quizzes when empty
+     */
+    private static void searchQuestions(String query, List<String> quizIds) {
+        long start = System.nanoTime();
+        QuestionIndex index = QuizRepository.buildIndex(quizIds);
+        double indexSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        start = System.nanoTime();
+        List<QuestionIndex.Hit> hits = index.search(query, 10);
+        double searchMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        for (QuestionIndex.Hit hit : hits) {
+            System.out.printf("%6.3f  #%d  %s%n", hit.getScore(), hit.getId() + 1, hit.getQuestion().getQuestionText());
+        }
+        System.err.printf("🔎 %d matches shown; indexed %d questions (%d terms) in %.2f s, searched in %.3f ms%n",
+                hits.size(), index.size(), index.getTermCount(), indexSeconds, searchMillis);
+    }
+
+    /**
+     * Reports clusters of near-duplicate questions across quizzes or question banks.
+     *
+     * @param quizIds Quiz ids or bank files to scan together; the built-in quizzes when empty
+     */
+    private static void dedupeQuestions(List<String> quizIds) {
+        List<String> ids = quizIds.isEmpty() ? QuizRepository.getBuiltInQuizIds() : quizIds;
+        List<Quiz> quizzes = new ArrayList<>();
+        int[] offsets = new int[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            Quiz quiz = QuizRepository.getQuiz(ids.get(i));
+            if (quiz == null) {
+                throw new IllegalArgumentException("Unknown quiz: " + ids.get(i));
+            }
+            quizzes.add(quiz);
+            offsets[i + 1] = offsets[i] + quiz.size();
+        }
+        // One view over all quizzes, so large packs are read in place rather than copied
+        List<Question> bank = new AbstractList<>() {
+            @Override
+            public Question get(int index) {
+                int quiz = quizOf(offsets, index);
+                return quizzes.get(quiz).getQuestion(index - offsets[quiz]);
+            }
+
+            @Override
+            public int size() {
+                return offsets[quizzes.size()];
+            }
+        };
+
+        long start = System.nanoTime();
+        List<NearDuplicateDetector.Cluster> clusters = new NearDuplicateDetector().findClusters(bank);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int duplicates = 0;
+        for (NearDuplicateDetector.Cluster cluster : clusters) {
+            int[] members = cluster.getMembers();
+            Question first = bank.get(members[0]);
+            System.out.printf("Cluster of %d:%n", members.length);
+            for (int member : members) {
+                Question question = bank.get(member);
+                int quiz = quizOf(offsets, member);
+                System.out.printf("  %4.2f  %s #%d  %s%n", NearDuplicateDetector.similarity(first, question),
+                        quizzes.get(quiz).getId(), member - offsets[quiz] + 1, question.getQuestionText());
+            }
+            duplicates += members.length - 1;
+        }
+        System.err.printf("🔁 %d clusters, %d questions could be removed; scanned %d questions in %.2f s%n",
+                clusters.size(), duplicates, bank.size(), seconds);
+    }
+
+    /**
+     * Finds which quiz of a concatenated bank holds an index.
+     */
+    private static int quizOf(int[] offsets, int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        // Skip empty quizzes that share the same offset
+        int quiz = found >= 0 ? found : -found - 2;
+        while (offsets[quiz + 1] <= index) {
+            quiz++;
+        }
+        return quiz;
+    }
+
+    /**
+     * Main method - entry point of the application.
+     *
+     * @param args Command line arguments; "--grade &lt;quizId&gt; &lt;sheetsFile&gt;" grades
+     *             answer sheets headlessly, "--serve [port]" starts the HTTP quiz server
+     *             (with -Dquiz.banks=&lt;directory&gt; it also serves the banks in that directory),
+     *             "--compile-pack &lt;bankFile&gt; &lt;packFile&gt;" compiles a question bank,
+     *             "--jfr-summary &lt;recording&gt;" summarizes a flight recording,
+     *             "--search &lt;query&gt; [quizId...]" searches the questions of quizzes or banks,
+     *             "--dedupe [quizId...]" reports near-duplicate questions across quizzes or banks,
+     *             otherwise the interactive game starts. With -Dquiz.jfr=&lt;file&gt; the quiz
+     *             events are recorded to that file with the bundled quiz.jfc profile.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("--jfr-summary")) {
+            JfrSummary.summarize(java.nio.file.Paths.get(args[1]), System.out);
+            return;
+        }
+        String recordingFile = System.getProperty("quiz.jfr");
+        if (recordingFile != null) {
+            QuizEvents.startRecording(java.nio.file.Paths.get(recordingFile));
+        }
+
+        if (args.length == 3 && args[0].equals("--grade")) {
+            gradeSheets(args[1], args[2]);
+            return;
+        }
+        if (args.length == 3 && args[0].equals("--compile-pack")) {
+            int count = QuizPack.compile(java.nio.file.Paths.get(args[1]), java.nio.file.Paths.get(args[2]));
+            System.out.println("✅ Compiled " + count + " questions into " + args[2]);
+            return;
+        }
+        if (args.length >= 1 && args[0].equals("--dedupe")) {
+            dedupeQuestions(Arrays.asList(args).subList(1, args.length));
+            return;
+        }
+        if (args.length >= 2 && args[0].equals("--search")) {
+            searchQuestions(args[1], Arrays.asList(args).subList(2, args.length));
+            return;
+        }
+        if (args.length >= 1 && args[0].equals("--serve")) {
+            QuizServer server = new QuizServer(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+            server.start();
+            System.out.println("🌐 Quiz server listening on port " + server.getPort());
+            return;
+        }
+
+        QuizApplication app = new QuizApplication();
+        app.run();
+    }
+}
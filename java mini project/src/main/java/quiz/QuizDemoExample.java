@@ -1,3 +1,5 @@
+package quiz;
+
 /**
  * Demo program showing how to create custom quizzes programmatically.
  * This class demonstrates the developer-friendly API.
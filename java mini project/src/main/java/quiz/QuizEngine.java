@@ -0,0 +1,416 @@
+package quiz;
+
+import java.util.*;
+
+/**
+ * Main Quiz Engine that handles quiz logic, question management, and score calculation.
+ * Provides an interactive interface for users to take quizzes.
+ *
+ * The questions live in an immutable Quiz shared by every attempt; the engine only drives
+ * one QuizSession at a time through the console.
+ */
+public class QuizEngine {
+    private String quizId = QuizResult.CUSTOM_QUIZ;
+    private List<Question> questions;
+    private boolean sharedQuestions;
+    private Quiz quiz;
+    private QuizSession session;
+    private QuestionSelector selector = QuestionSelector.IN_ORDER;
+    private boolean quizInProgress;
+    private Scanner scanner;
+
+    /**
+     * Constructor to initialize the quiz engine.
+     */
+    public QuizEngine() {
+        this.questions = new ArrayList<>();
+        this.quizInProgress = false;
+        this.scanner = null; // Will use System.in directly through a shared scanner
+    }
+
+    /**
+     * Constructor to initialize the quiz engine with an external scanner.
+     * 
+     * @param scanner The Scanner to use for input
+     */
+    public QuizEngine(Scanner scanner) {
+        this.questions = new ArrayList<>();
+        this.quizInProgress = false;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Constructor to run an attempt at a shared quiz definition.
+     *
+     * @param quiz The quiz to take; it is not copied
+     * @param scanner The Scanner to use for input
+     */
+    public QuizEngine(Quiz quiz, Scanner scanner) {
+        this(scanner);
+        this.quiz = quiz;
+        this.quizId = quiz.getId();
+        this.questions = quiz.getQuestions();
+        this.sharedQuestions = true;
+    }
+
+    /**
+     * Constructor to run a quiz over an existing question list without copying it.
+     * Useful for large or lazily decoded banks such as a QuizPack.
+     *
+     * @param questions The questions to ask; the list is used as-is
+     * @param scanner The Scanner to use for input
+     */
+    public QuizEngine(List<Question> questions, Scanner scanner) {
+        this(scanner);
+        this.questions = questions;
+        this.sharedQuestions = true;
+    }
+
+    /**
+     * Sets the quiz id recorded in results, so statistics can be broken down per quiz.
+     *
+     * @param quizId Id of the quiz
+     */
+    public void setQuizId(String quizId) {
+        this.quizId = quizId == null ? QuizResult.CUSTOM_QUIZ : quizId;
+        this.quiz = null;
+    }
+
+    public String getQuizId() {
+        return quizId;
+    }
+
+    /**
+     * Adds a question to the quiz.
+     * Developer-friendly method for creating quizzes.
+     *
+     * @param question The Question object to add
+     */
+    public void addQuestion(Question question) {
+        ownQuestions();
+        questions.add(question);
+    }
+
+    /**
+     * Adds multiple questions at once.
+     *
+     * @param questions List of Question objects
+     */
+    public void addQuestions(List<Question> questions) {
+        ownQuestions();
+        this.questions.addAll(questions);
+    }
+
+    /**
+     * Copies a shared question list before it is modified, so the original stays untouched.
+     */
+    private void ownQuestions() {
+        if (sharedQuestions) {
+            questions = new ArrayList<>(questions);
+            sharedQuestions = false;
+        }
+        quiz = null;
+    }
+
+    /**
+     * Sets how the next question of an attempt is chosen, e.g. an AdaptiveSelector
+     * that matches questions to the player's ability. Questions are asked in order by default.
+     *
+     * @param selector The selector to use for the next attempts
+     */
+    public void setSelector(QuestionSelector selector) {
+        this.selector = selector == null ? QuestionSelector.IN_ORDER : selector;
+    }
+
+    /**
+     * Returns the quiz definition, building it from the current questions when they changed.
+     *
+     * @return The immutable quiz this engine runs
+     */
+    public Quiz getQuiz() {
+        if (quiz == null) {
+            // A shared list is never modified in place, so it can back the quiz without a copy
+            quiz = sharedQuestions ? new Quiz(quizId, questions) : Quiz.of(quizId, questions);
+        }
+        return quiz;
+    }
+
+    /**
+     * Starts the quiz and begins asking questions.
+     */
+    public void startQuiz() {
+        if (questions.isEmpty()) {
+            GameUI.println("\n❌ Error: No questions available. Please add questions to the quiz.");
+            return;
+        }
+
+        quizInProgress = true;
+        session = selector.newSession(getQuiz());
+
+        QuizEvents.QuizStarted started = new QuizEvents.QuizStarted();
+        if (started.shouldCommit()) {
+            started.quizId = quizId;
+            started.questionCount = session.getLength();
+            started.commit();
+        }
+
+        while (quizInProgress && !session.isFinished()) {
+            int next = selector.next(session);
+            if (next < 0) {
+                break;
+            }
+            session.select(next);
+            askQuestion(session.currentQuestion());
+        }
+
+        quizInProgress = false;
+    }
+
+    /**
+     * Displays a question and gets the user's answer.
+     *
+     * @param question The Question to display
+     */
+    private void askQuestion(Question question) {
+        int slot = session.getCurrentIndex();
+        int questionIndex = session.getQuestionIndex(slot);
+        QuizEvents.QuestionRendered rendered = new QuizEvents.QuestionRendered();
+        rendered.begin();
+        long renderStart = System.nanoTime();
+        GameUI.displayQuestion(question.getQuestionText(), slot + 1, session.getLength());
+        
+        List<String> options = session.currentOptions();
+        GameUI.displayAnswerOptions(options);
+        rendered.end();
+        if (rendered.shouldCommit()) {
+            rendered.quizId = quizId;
+            rendered.questionIndex = questionIndex;
+            rendered.commit();
+        }
+
+        QuizEvents.AnswerReceived received = new QuizEvents.AnswerReceived();
+        received.begin();
+        long waitStart = System.nanoTime();
+        int userAnswer = getUserInput(question.getNumberOfOptions());
+        received.end();
+        if (received.shouldCommit()) {
+            received.quizId = quizId;
+            received.questionIndex = questionIndex;
+            received.choice = userAnswer;
+            received.commit();
+        }
+
+        QuizEvents.AnswerGraded graded = new QuizEvents.AnswerGraded();
+        graded.begin();
+        long feedbackStart = System.nanoTime();
+        boolean correct = session.answer(userAnswer - 1); // Convert to 0-based index
+        selector.graded(session, questionIndex, correct);
+
+        // Display immediate feedback with game UI
+        if (correct) {
+            GameUI.showCorrectAnswer();
+        } else {
+            GameUI.showIncorrectAnswer();
+            GameUI.println("  " + "Correct Answer: " + question.getCorrectAnswer());
+        }
+        GameUI.println("  " + "💡 " + question.getExplanation());
+
+        // The event covers grading and drawing the feedback, not the fixed pause to read it
+        graded.end();
+        if (graded.shouldCommit()) {
+            graded.quizId = quizId;
+            graded.questionIndex = questionIndex;
+            graded.correct = correct;
+            graded.commit();
+        }
+
+        GameUI.pause(1500);
+
+        long feedbackEnd = System.nanoTime();
+        session.recordTiming(slot, ResponseTimings.RENDER, waitStart - renderStart);
+        session.recordTiming(slot, ResponseTimings.WAIT, feedbackStart - waitStart);
+        session.recordTiming(slot, ResponseTimings.FEEDBACK, feedbackEnd - feedbackStart);
+    }
+
+    /**
+     * Gets valid user input for answer selection.
+     *
+     * @param maxOptions Maximum valid option number
+     * @return The user's selected option number (1-based)
+     */
+    private int getUserInput(int maxOptions) {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+        
+        int choice = -1;
+        while (choice < 1 || choice > maxOptions) {
+            try {
+                GameUI.print("Your answer (1-" + maxOptions + "): ");
+                String input = scanner.nextLine().trim();
+
+                if (input.isEmpty()) {
+                    GameUI.println("⚠️  Please enter a valid number.");
+                    continue;
+                }
+
+                choice = Integer.parseInt(input);
+                if (choice < 1 || choice > maxOptions) {
+                    GameUI.println("⚠️  Please enter a number between 1 and " + maxOptions + ".");
+                }
+            } catch (NumberFormatException e) {
+                GameUI.println("⚠️  Invalid input! Please enter a number.");
+            } catch (NoSuchElementException e) {
+                GameUI.println("⚠️  Input ended unexpectedly. Using default answer.");
+                choice = 1; // Default to first option
+            }
+        }
+        return choice;
+    }
+
+    /**
+     * Loads a previously recorded answer sheet, e.g. to regrade an attempt.
+     *
+     * @param answers The answers to grade, one slot per question
+     */
+    public void setAnswers(AnswerSheet answers) {
+        this.session = QuizSession.regrade(getQuiz(), answers);
+    }
+
+    /**
+     * Calculates and returns the quiz result.
+     *
+     * @param playerName Name of the player
+     * @return QuizResult object containing the player's performance
+     */
+    public QuizResult calculateResults(String playerName) {
+        QuizEvents.ResultsCalculated calculated = new QuizEvents.ResultsCalculated();
+        calculated.begin();
+        if (session == null) {
+            session = getQuiz().newSession();
+        }
+        QuizResult result = session.result(playerName);
+        calculated.end();
+        if (calculated.shouldCommit()) {
+            calculated.quizId = result.getQuizId();
+            calculated.questionCount = result.getTotalQuestions();
+            calculated.correctAnswers = result.getCorrectAnswers();
+            calculated.timeTaken = result.getTimeTakenNanos();
+            calculated.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Displays the detailed results of the quiz.
+     *
+     * @param result The QuizResult to display
+     */
+    public void displayResults(QuizResult result) {
+        QuizEvents.ResultsDisplayed displayed = new QuizEvents.ResultsDisplayed();
+        displayed.begin();
+        GameUI.showVictoryAnimation();
+        GameUI.displayResultCard(
+            result.getPlayerName(),
+            result.getCorrectAnswers(),
+            result.getTotalQuestions(),
+            result.getPercentageScore(),
+            result.getLetterGrade(),
+            result.getTimeTaken()
+        );
+        displayDetailedAnswers();
+        displayed.end();
+        if (displayed.shouldCommit()) {
+            displayed.quizId = quizId;
+            displayed.questionCount = result.getTotalQuestions();
+            displayed.commit();
+        }
+    }
+
+    /**
+     * Displays a detailed breakdown of each answer.
+     */
+    private void displayDetailedAnswers() {
+        if (session == null) {
+            return;
+        }
+        AnswerSheet userAnswers = session.getAnswers();
+        ResponseTimings timings = session.getTimings();
+        Frame frame = Frame.begin()
+                .line("\n╔══════════════════════════════════════╗")
+                .line("║     DETAILED ANSWER BREAKDOWN        ║")
+                .line("╚══════════════════════════════════════╝\n");
+
+        for (int i = 0; i < userAnswers.size(); i++) {
+            if (!userAnswers.isAnswered(i)) {
+                continue;
+            }
+            Question question = session.getQuestion(i);
+            int userAnswer = userAnswers.get(i);
+            boolean isCorrect = question.isCorrect(userAnswer);
+
+            frame.append("Q").append(i + 1).append(": ").line(question.getQuestionText());
+            frame.append("   Your answer: ").append(question.getUserAnswer(userAnswer))
+                    .line(isCorrect ? " ✅" : " ❌");
+
+            if (!isCorrect) {
+                frame.append("   Correct answer: ").line(question.getCorrectAnswer());
+            }
+            if (timings != null) {
+                frame.append("   Answered in: ")
+                        .appendOneDecimal(timings.get(i, ResponseTimings.WAIT) / 1e9).line(" s");
+            }
+            frame.newline();
+        }
+        GameUI.renderer().render(frame);
+    }
+
+    /**
+     * Returns the total number of questions in the quiz.
+     *
+     * @return Number of questions
+     */
+    public int getTotalQuestions() {
+        return questions.size();
+    }
+
+    /**
+     * Returns the questions of the quiz in the order they are asked.
+     *
+     * @return Read-only view of the questions
+     */
+    public List<Question> getQuestions() {
+        return Collections.unmodifiableList(questions);
+    }
+
+    /**
+     * Gets the maximum number of options across all questions.
+     *
+     * @return Maximum number of options
+     */
+    private int getMaxOptions() {
+        if (questions.isEmpty()) {
+            return 4;
+        }
+        return questions.stream()
+                .mapToInt(Question::getNumberOfOptions)
+                .max()
+                .orElse(4);
+    }
+
+    /**
+     * Clears the quiz and resets for a new attempt.
+     */
+    public void resetQuiz() {
+        session = null;
+        quizInProgress = false;
+    }
+
+    /**
+     * Closes the scanner resource (only if it was created internally).
+     */
+    public void closeScanner() {
+        // Don't close scanner if it was provided externally
+        // This prevents closing System.in shared by main application
+    }
+}
@@ -0,0 +1,156 @@
+package quiz;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * QuizEvents: JDK Flight Recorder events for the quiz lifecycle.
+ * Events carry no stack traces and are only written while a recording has them enabled,
+ * so they are cheap enough to leave in place permanently. The bundled quiz.jfc profile
+ * enables all of them together with a small set of low-overhead JVM events.
+ *
+ * <pre>
+ * quiz.QuizStarted         a quiz attempt begins
+ * quiz.QuestionRendered    a question and its options were drawn (duration = render time)
+ * quiz.AnswerReceived      the player chose an option (duration = wait for input)
+ * quiz.AnswerGraded        the answer was checked and feedback drawn (duration = feedback time, without the reading pause)
+ * quiz.ResultsCalculated   the attempt was graded (duration = grading time)
+ * quiz.ResultsDisplayed    the result screens were drawn (duration = display time)
+ * </pre>
+ */
+public final class QuizEvents {
+    /**
+     * Name of the bundled recording profile on the class path.
+     */
+    public static final String PROFILE = "quiz.jfc";
+
+    private QuizEvents() {
+    }
+
+    /**
+     * Starts a recording with the bundled profile that is written to a file when the JVM exits.
+     *
+     * @param destination Where to write the recording
+     * @return The running recording
+     */
+    public static Recording startRecording(Path destination) throws IOException {
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                QuizEvents.class.getResourceAsStream("/" + PROFILE), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        } catch (ParseException e) {
+            throw new IOException("Invalid recording profile " + PROFILE, e);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName("quiz");
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        return recording;
+    }
+
+    // ==================== EVENTS ====================
+
+    @Name("quiz.QuizStarted")
+    @Label("Quiz Started")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class QuizStarted extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Questions")
+        public int questionCount;
+    }
+
+    @Name("quiz.QuestionRendered")
+    @Label("Question Rendered")
+    @Description("Drawing a question and its answer options")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class QuestionRendered extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Question Index")
+        public int questionIndex;
+    }
+
+    @Name("quiz.AnswerReceived")
+    @Label("Answer Received")
+    @Description("Waiting for the player to choose an option")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class AnswerReceived extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Question Index")
+        public int questionIndex;
+
+        @Label("Choice")
+        @Description("1-based option number")
+        public int choice;
+    }
+
+    @Name("quiz.AnswerGraded")
+    @Label("Answer Graded")
+    @Description("Checking an answer and drawing feedback, excluding the pause to read it")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class AnswerGraded extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Question Index")
+        public int questionIndex;
+
+        @Label("Correct")
+        public boolean correct;
+    }
+
+    @Name("quiz.ResultsCalculated")
+    @Label("Results Calculated")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class ResultsCalculated extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Questions")
+        public int questionCount;
+
+        @Label("Correct Answers")
+        public int correctAnswers;
+
+        @Label("Time Taken")
+        @Timespan(Timespan.NANOSECONDS)
+        public long timeTaken;
+    }
+
+    @Name("quiz.ResultsDisplayed")
+    @Label("Results Displayed")
+    @Category("Quiz")
+    @StackTrace(false)
+    public static final class ResultsDisplayed extends Event {
+        @Label("Quiz Id")
+        public String quizId;
+
+        @Label("Questions")
+        public int questionCount;
+    }
+}
@@ -0,0 +1,245 @@
+package quiz;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * QuizPack: A compiled, read-only binary question bank.
+ * A pack is opened with a memory-mapped buffer and questions are decoded only when accessed,
+ * so opening costs the same for any bank size and every JVM on the host shares the page cache.
+ *
+ * <pre>
+ * header   magic, version, questionCount, stringCount, stringIndexOffset, stringDataOffset
+ * records  questionCount fixed-width records: textId, explanationId, correctIndex, optionCount, optionIds
+ * index    stringCount + 1 offsets into the string data
+ * data     UTF-8 bytes of every distinct string
+ * </pre>
+ */
+public class QuizPack extends AbstractList<Question> implements RandomAccess, Closeable {
+    private static final int MAGIC = 0x5150414B; // "QPAK"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int MAX_OPTIONS = AnswerSheet.MAX_ANSWER_INDEX + 1;
+    // textId + explanationId + correctIndex + optionCount + reserved short + optionIds
+    private static final int RECORD_SIZE = 4 + 4 + 1 + 1 + 2 + 4 * MAX_OPTIONS;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int questionCount;
+    private final int stringIndexOffset;
+    private final int stringDataOffset;
+
+    private QuizPack(FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a quiz pack");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported quiz pack version: " + buffer.getInt(4));
+        }
+        this.questionCount = buffer.getInt(8);
+        this.stringIndexOffset = (int) buffer.getLong(16);
+        this.stringDataOffset = (int) buffer.getLong(24);
+    }
+
+    /**
+     * Opens a compiled pack. Only the header is read; questions are decoded on access.
+     *
+     * @param file The pack file
+     * @return The opened pack
+     */
+    public static QuizPack open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Quiz pack larger than 2 GB: " + file);
+            }
+            return new QuizPack(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Compiles a question bank file (.ndjson/.jsonl or .csv) into a pack.
+     *
+     * @param bankFile The question bank to compile
+     * @param packFile Where to write the pack
+     * @return Number of questions compiled
+     */
+    public static int compile(Path bankFile, Path packFile) throws IOException {
+        try (Writer writer = new Writer(packFile)) {
+            QuestionBankLoader.stream(bankFile, writer::add);
+            writer.finish();
+            return writer.questionCount;
+        }
+    }
+
+    /**
+     * Compiles questions into a pack.
+     *
+     * @param questions The questions to compile
+     * @param packFile Where to write the pack
+     */
+    public static void compile(Iterable<Question> questions, Path packFile) throws IOException {
+        try (Writer writer = new Writer(packFile)) {
+            for (Question question : questions) {
+                writer.add(question);
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Decodes a question from the pack.
+     *
+     * @param index Index of the question (0-based)
+     * @return A new Question holding the decoded strings
+     */
+    @Override
+    public Question get(int index) {
+        Objects.checkIndex(index, questionCount);
+        int record = HEADER_SIZE + index * RECORD_SIZE;
+        int optionCount = buffer.get(record + 9);
+        List<String> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(string(buffer.getInt(record + 12 + 4 * i)));
+        }
+        return new Question(
+                string(buffer.getInt(record)),
+                options,
+                buffer.get(record + 8),
+                string(buffer.getInt(record + 4))
+        );
+    }
+
+    @Override
+    public int size() {
+        return questionCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String string(int id) {
+        int start = buffer.getInt(stringIndexOffset + 4 * id);
+        int end = buffer.getInt(stringIndexOffset + 4 * (id + 1));
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringDataOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams records into the pack file while collecting distinct strings in a side file,
+     * then appends the string index and data.
+     */
+    private static class Writer implements Closeable {
+        private final Path packFile;
+        private final Path stringsFile;
+        private final DataOutputStream records;
+        private final OutputStream strings;
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        private int[] stringOffsets = new int[1024];
+        private int stringDataSize;
+        private int questionCount;
+
+        Writer(Path packFile) throws IOException {
+            this.packFile = packFile;
+            this.stringsFile = Files.createTempFile(packFile.toAbsolutePath().getParent(), "strings", ".tmp");
+            this.records = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(packFile), 1 << 16));
+            this.strings = new BufferedOutputStream(Files.newOutputStream(stringsFile), 1 << 16);
+            records.write(new byte[HEADER_SIZE]); // Filled in by finish()
+        }
+
+        void add(Question question) {
+            if (question.getNumberOfOptions() > MAX_OPTIONS) {
+                throw new IllegalArgumentException("A pack question can have at most " + MAX_OPTIONS + " options");
+            }
+            try {
+                record.clear();
+                record.putInt(stringId(question.getQuestionText()))
+                        .putInt(stringId(Objects.requireNonNullElse(question.getExplanation(), "")))
+                        .put((byte) question.getCorrectAnswerIndex())
+                        .put((byte) question.getNumberOfOptions())
+                        .putShort((short) 0);
+                for (String option : question.getOptions()) {
+                    record.putInt(stringId(option));
+                }
+                records.write(record.array(), 0, RECORD_SIZE);
+                questionCount++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int stringId(String text) throws IOException {
+            Integer id = stringIds.get(text);
+            if (id != null) {
+                return id;
+            }
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            if ((long) stringDataSize + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("String data exceeds 2 GB");
+            }
+            int newId = stringIds.size();
+            stringIds.put(text, newId);
+            strings.write(bytes);
+            if (newId + 1 >= stringOffsets.length) {
+                stringOffsets = Arrays.copyOf(stringOffsets, stringOffsets.length * 2);
+            }
+            stringDataSize += bytes.length;
+            stringOffsets[newId + 1] = stringDataSize;
+            return newId;
+        }
+
+        void finish() throws IOException {
+            int stringCount = stringIds.size();
+            long stringIndexOffset = HEADER_SIZE + (long) questionCount * RECORD_SIZE;
+            long stringDataOffset = stringIndexOffset + 4L * (stringCount + 1);
+            if (stringDataOffset + stringDataSize > Integer.MAX_VALUE) {
+                throw new IOException("Quiz pack would exceed 2 GB");
+            }
+
+            for (int i = 0; i <= stringCount; i++) {
+                records.writeInt(stringOffsets[i]);
+            }
+            strings.close();
+            Files.copy(stringsFile, records);
+            records.close();
+
+            try (FileChannel channel = FileChannel.open(packFile, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(questionCount)
+                        .putInt(stringCount)
+                        .putLong(stringIndexOffset)
+                        .putLong(stringDataOffset)
+                        .flip();
+                channel.write(header, 0);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                strings.close();
+                records.close();
+            } finally {
+                Files.deleteIfExists(stringsFile);
+            }
+        }
+    }
+}
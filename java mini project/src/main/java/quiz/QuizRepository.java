@@ -1,3 +1,5 @@
+package quiz;
+
 import java.util.*;
 
 /**
@@ -5,6 +7,212 @@ import java.util.*;
  * Makes it easy for developers to create and manage multiple quizzes.
  */
 public class QuizRepository {
+    // Total questions kept on the heap across cached templates
+    private static final long TEMPLATE_CACHE_WEIGHT = 1_000_000;
+    private static final List<String> BUILT_IN_QUIZZES = List.of("beginner", "programming", "advanced", "oop");
+    private static final QuizTemplateCache TEMPLATES =
+            new QuizTemplateCache(QuizRepository::buildTemplate, TEMPLATE_CACHE_WEIGHT);
+    // Questions per adaptive attempt, capped by the size of the quiz
+    private static final int ADAPTIVE_ATTEMPT_LENGTH = 10;
+    // Cache keys of banks loaded by getBank; a NUL cannot occur in the path ids of getQuiz
+    private static final String BANK_KEY_PREFIX = "\0bank:";
+
+    /**
+     * Creates one of the pre-built quizzes by its id.
+     * Known ids: "beginner", "programming", "advanced" and "oop". A path to a question bank
+     * (.ndjson/.jsonl/.csv) or a compiled quiz pack (.pack) also works as an id.
+     * With -Dquiz.explanations=&lt;directory&gt; the explanations of question banks are kept
+     * in a segment file in that directory rather than on the heap.
+     *
+     * @param quizId Id of the quiz to create
+     * @param scanner The Scanner to use for input
+     * @return QuizEngine for the quiz, or null if the id is unknown
+     */
+    public static QuizEngine createQuizById(String quizId, Scanner scanner) {
+        Quiz quiz = getQuiz(quizId);
+        return quiz == null ? null : new QuizEngine(quiz, scanner);
+    }
+
+    /**
+     * Returns the shared, immutable definition of a quiz.
+     * Quizzes are built once and cached, so every attempt is only a QuizSession referencing them.
+     *
+     * @param quizId Id of the quiz
+     * @return The quiz, or null if the id is unknown
+     */
+    public static Quiz getQuiz(String quizId) {
+        // Built-in ids are case-insensitive; file paths are not
+        String lowerCaseId = quizId.toLowerCase();
+        return TEMPLATES.get(BUILT_IN_QUIZZES.contains(lowerCaseId) ? lowerCaseId : quizId);
+    }
+
+    /**
+     * Returns a question bank or quiz pack from a directory, with its path relative to the
+     * directory as its id, so the id reveals nothing of the directory itself.
+     * Paths that resolve outside the directory are refused.
+     *
+     * @param directory Directory of the banks
+     * @param relativeId Path of the bank relative to the directory, e.g. "science/biology.ndjson"
+     * @return The quiz, or null if there is no such bank in the directory
+     */
+    public static Quiz getBank(java.nio.file.Path directory, String relativeId) {
+        java.nio.file.Path root = directory.toAbsolutePath().normalize();
+        java.nio.file.Path file;
+        try {
+            file = root.resolve(relativeId).normalize();
+        } catch (java.nio.file.InvalidPathException e) {
+            return null;
+        }
+        if (relativeId.isEmpty() || !file.startsWith(root) || file.equals(root)) {
+            return null;
+        }
+        String quizId = root.relativize(file).toString().replace(java.io.File.separatorChar, '/');
+        // Keyed by the file, so banks of different directories with the same relative id stay apart
+        return TEMPLATES.get(BANK_KEY_PREFIX + file, quizId, () -> buildTemplate(file.toString()));
+    }
+
+    /**
+     * Returns the shared, immutable questions of a quiz.
+     *
+     * @param quizId Id of the quiz
+     * @return The questions of the quiz, or null if the id is unknown
+     */
+    public static List<Question> getTemplate(String quizId) {
+        Quiz quiz = getQuiz(quizId);
+        return quiz == null ? null : quiz.getQuestions();
+    }
+
+    /**
+     * Returns the ids of the pre-built quizzes.
+     *
+     * @return Unmodifiable list of ids
+     */
+    public static List<String> getBuiltInQuizIds() {
+        return BUILT_IN_QUIZZES;
+    }
+
+    /**
+     * Returns the adaptive selector of a quiz, shared by all adaptive attempts at it,
+     * so the difficulty estimates of its questions improve with every answer.
+     *
+     * @param quizId Id of the quiz whose questions form the bank
+     * @return The selector, or null if the id is unknown
+     */
+    public static AdaptiveSelector getAdaptiveSelector(String quizId) {
+        Quiz quiz = getQuiz(quizId);
+        return quiz == null ? null : getAdaptiveSelector(quiz);
+    }
+
+    /**
+     * Returns the adaptive selector of a quiz from this repository, e.g. a bank from {@link #getBank}.
+     *
+     * @param quiz A quiz returned by this repository
+     * @return The selector
+     */
+    public static AdaptiveSelector getAdaptiveSelector(Quiz quiz) {
+        // Kept on the quiz, so an evicted template takes its selector with it and a reloaded one starts fresh
+        return quiz.getAdaptiveSelector(bank -> new AdaptiveSelector(bank, Math.min(ADAPTIVE_ATTEMPT_LENGTH, bank.size())));
+    }
+
+    /**
+     * Builds a full-text search index over the questions of several quizzes,
+     * so authors can look for existing questions before adding new ones.
+     *
+     * @param quizIds Ids of the quizzes to index; the built-in quizzes when empty
+     * @return Index over all their questions, in the order of the ids
+     */
+    public static QuestionIndex buildIndex(List<String> quizIds) {
+        QuestionIndex index = new QuestionIndex();
+        for (String quizId : quizIds.isEmpty() ? BUILT_IN_QUIZZES : quizIds) {
+            Quiz quiz = getQuiz(quizId);
+            if (quiz == null) {
+                throw new IllegalArgumentException("Unknown quiz: " + quizId);
+            }
+            index.addAll(quiz.getQuestions());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the template cache, e.g. to read its hit and miss counters.
+     *
+     * @return The shared template cache
+     */
+    public static QuizTemplateCache getTemplateCache() {
+        return TEMPLATES;
+    }
+
+    /**
+     * Builds the questions for a quiz id; called by the cache on a miss.
+     */
+    private static List<Question> buildTemplate(String quizId) {
+        switch (quizId) {
+            case "beginner":
+                return beginnerQuestions();
+            case "programming":
+                return programmingQuestions();
+            case "advanced":
+                return advancedQuestions();
+            case "oop":
+                return oopQuestions();
+            default:
+                break;
+        }
+
+        java.nio.file.Path file = java.nio.file.Paths.get(quizId);
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase();
+        boolean isPack = fileName.endsWith(".pack");
+        boolean isBank = fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl") || fileName.endsWith(".csv");
+        if (!(isPack || isBank) || !java.nio.file.Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            if (isPack) {
+                return QuizPack.open(file);
+            }
+            // Each bank gets its own table and segment; the cache closes the segment when it evicts the bank
+            String explanationDirectory = System.getProperty("quiz.explanations");
+            if (explanationDirectory == null) {
+                return QuestionBankLoader.load(file, new StringTable());
+            }
+            ExplanationStore explanations = ExplanationStore.createTemporary(
+                    java.nio.file.Paths.get(explanationDirectory), ExplanationStore.DEFAULT_CACHE_SIZE);
+            try {
+                return new StoredBank(QuestionBankLoader.load(file, new StringTable(), explanations), explanations);
+            } catch (java.io.IOException | RuntimeException e) {
+                explanations.close();
+                throw e;
+            }
+        } catch (java.io.IOException e) {
+            throw new java.io.UncheckedIOException("Could not load quiz " + quizId, e);
+        }
+    }
+
+    /**
+     * Creates a quiz from a question bank file (.ndjson/.jsonl or .csv).
+     * The file is streamed, so large banks can be loaded without recompiling.
+     *
+     * @param file The question bank file
+     * @param scanner The Scanner to use for input
+     * @return QuizEngine populated with the questions of the file
+     */
+    public static QuizEngine loadQuizFromFile(java.nio.file.Path file, Scanner scanner) throws java.io.IOException {
+        QuizEngine quiz = new QuizEngine(scanner);
+        QuestionBankLoader.stream(file, quiz::addQuestion);
+        return quiz;
+    }
+
+    /**
+     * Creates a quiz backed by a compiled quiz pack.
+     * Questions are decoded from the memory-mapped pack only when they are asked.
+     *
+     * @param packFile The pack file created by QuizPack.compile
+     * @param scanner The Scanner to use for input
+     * @return QuizEngine over the questions of the pack
+     */
+    public static QuizEngine loadQuizFromPack(java.nio.file.Path packFile, Scanner scanner) throws java.io.IOException {
+        return new QuizEngine(QuizPack.open(packFile), scanner);
+    }
 
     /**
      * Creates a sample programming concepts quiz.
@@ -14,7 +222,13 @@ public class QuizRepository {
      * @return QuizEngine populated with programming questions
      */
     public static QuizEngine createProgrammingQuiz(Scanner scanner) {
-        QuizEngine quiz = new QuizEngine(scanner);
+        return createQuizById("programming", scanner);
+    }
+
+    /**
+     * Builds the questions of the programming quiz.
+     */
+    private static List<Question> programmingQuestions() {
 
         // Question 1: Loops
         Question q1 = new Question(
@@ -90,17 +304,10 @@ public class QuizRepository {
                 "true && false = false, then false || true = true. OR operator returns true if at least one operand is true."
         );
 
-        // Add all questions to the quiz
-        quiz.addQuestion(q1);
-        quiz.addQuestion(q2);
-        quiz.addQuestion(q3);
-        quiz.addQuestion(q4);
-        quiz.addQuestion(q5);
-        quiz.addQuestion(q6);
-        quiz.addQuestion(q7);
-        quiz.addQuestion(q8);
-
-        return quiz;
+        return List.of(
+                q1, q2, q3, q4, q5,
+                q6, q7, q8
+        );
     }
 
     /**
@@ -110,7 +317,13 @@ public class QuizRepository {
      * @return QuizEngine with beginner questions
      */
     public static QuizEngine createBeginnerQuiz(Scanner scanner) {
-        QuizEngine quiz = new QuizEngine(scanner);
+        return createQuizById("beginner", scanner);
+    }
+
+    /**
+     * Builds the questions of the beginner quiz.
+     */
+    private static List<Question> beginnerQuestions() {
 
         Question q1 = new Question(
                 "What is the correct way to declare a variable?",
@@ -133,11 +346,7 @@ public class QuizRepository {
                 "The do-while loop executes its body at least once before checking the condition."
         );
 
-        quiz.addQuestion(q1);
-        quiz.addQuestion(q2);
-        quiz.addQuestion(q3);
-
-        return quiz;
+        return List.of(q1, q2, q3);
     }
 
     /**
@@ -147,7 +356,13 @@ public class QuizRepository {
      * @return QuizEngine with advanced questions
      */
     public static QuizEngine createAdvancedQuiz(Scanner scanner) {
-        QuizEngine quiz = new QuizEngine(scanner);
+        return createQuizById("advanced", scanner);
+    }
+
+    /**
+     * Builds the questions of the advanced quiz.
+     */
+    private static List<Question> advancedQuestions() {
 
         Question q1 = new Question(
                 "What is the time complexity of adding an element to an ArrayList?",
@@ -163,10 +378,7 @@ public class QuizRepository {
                 "HashMap provides O(1) average-case time complexity for get and put operations."
         );
 
-        quiz.addQuestion(q1);
-        quiz.addQuestion(q2);
-
-        return quiz;
+        return List.of(q1, q2);
     }
 
     /**
@@ -177,7 +389,13 @@ public class QuizRepository {
      * @return QuizEngine with OOP questions
      */
     public static QuizEngine createOOPQuiz(Scanner scanner) {
-        QuizEngine quiz = new QuizEngine(scanner);
+        return createQuizById("oop", scanner);
+    }
+
+    /**
+     * Builds the questions of the OOP quiz.
+     */
+    private static List<Question> oopQuestions() {
 
         // Question 1: Classes and Objects
         Question q1 = new Question(
@@ -429,28 +647,41 @@ public class QuizRepository {
                 "All classes in Java inherit from the Object class either directly or indirectly. Object is the root of the class hierarchy and provides methods like equals(), toString(), and hashCode()."
         );
 
-        // Add all questions to the quiz
-        quiz.addQuestion(q1);
-        quiz.addQuestion(q2);
-        quiz.addQuestion(q3);
-        quiz.addQuestion(q4);
-        quiz.addQuestion(q5);
-        quiz.addQuestion(q6);
-        quiz.addQuestion(q7);
-        quiz.addQuestion(q8);
-        quiz.addQuestion(q9);
-        quiz.addQuestion(q10);
-        quiz.addQuestion(q11);
-        quiz.addQuestion(q12);
-        quiz.addQuestion(q13);
-        quiz.addQuestion(q14);
-        quiz.addQuestion(q15);
-        quiz.addQuestion(q16);
-        quiz.addQuestion(q17);
-        quiz.addQuestion(q18);
-        quiz.addQuestion(q19);
-        quiz.addQuestion(q20);
+        return List.of(
+                q1, q2, q3, q4, q5,
+                q6, q7, q8, q9, q10,
+                q11, q12, q13, q14, q15,
+                q16, q17, q18, q19, q20
+        );
+    }
 
-        return quiz;
+    /**
+     * Questions of a bank whose explanations are kept in a segment file. Closing the list
+     * closes the segment, so evicting the bank from the template cache frees the file at once
+     * instead of whenever the collector gets to it.
+     */
+    private static final class StoredBank extends AbstractList<Question> implements RandomAccess, java.io.Closeable {
+        private final List<Question> questions;
+        private final ExplanationStore explanations;
+
+        StoredBank(List<Question> questions, ExplanationStore explanations) {
+            this.questions = List.copyOf(questions);
+            this.explanations = explanations;
+        }
+
+        @Override
+        public Question get(int index) {
+            return questions.get(index);
+        }
+
+        @Override
+        public int size() {
+            return questions.size();
+        }
+
+        @Override
+        public void close() throws java.io.IOException {
+            explanations.close();
+        }
     }
 }
@@ -0,0 +1,203 @@
+package quiz;
+
+import java.io.Serializable;
+
+/**
+ * Represents the result of a single quiz attempt.
+ * Stores information about user performance on the quiz.
+ * Results are Serializable without their per-question timings; QuizResultCodec is the
+ * compact binary form for sending results between processes.
+ */
+public class QuizResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Quiz id used for results of quizzes that are not in the repository.
+     */
+    public static final String CUSTOM_QUIZ = "custom";
+
+    private static final TextTemplate SUMMARY = TextTemplate.compile(
+            "╔══════════════════════════════════════╗\n" +
+            "║        QUIZ RESULT SUMMARY            ║\n" +
+            "╠══════════════════════════════════════╣\n" +
+            "║ Player:       %-24s║\n" +
+            "║ Correct:      %2d/%d                    ║\n" +
+            "║ Incorrect:    %2d/%d                    ║\n" +
+            "║ Percentage:   %.2f%%                 ║\n" +
+            "║ Grade:        %s                     ║\n" +
+            "║ Time Taken:   %d seconds              ║\n" +
+            "╚══════════════════════════════════════╝");
+
+    private String quizId;
+    private String playerName;
+    private int totalQuestions;
+    private int correctAnswers;
+    private int incorrectAnswers;
+    private long timeTaken; // in seconds
+    private long timeTakenNanos; // -1 when only whole seconds are known
+    private transient ResponseTimings timings;
+    // Derived once, since results are read far more often than created
+    private double percentageScore;
+    private String letterGrade;
+
+    /**
+     * Constructor for creating a quiz result.
+     *
+     * @param playerName Name of the player who took the quiz
+     * @param totalQuestions Total number of questions in the quiz
+     * @param correctAnswers Number of correct answers
+     * @param timeTaken Time taken to complete the quiz in seconds
+     */
+    public QuizResult(String playerName, int totalQuestions, int correctAnswers, long timeTaken) {
+        this(CUSTOM_QUIZ, playerName, totalQuestions, correctAnswers, timeTaken);
+    }
+
+    /**
+     * Constructor for creating a result of a known quiz.
+     *
+     * @param quizId Id of the quiz that was taken
+     * @param playerName Name of the player who took the quiz
+     * @param totalQuestions Total number of questions in the quiz
+     * @param correctAnswers Number of correct answers
+     * @param timeTaken Time taken to complete the quiz in seconds
+     */
+    public QuizResult(String quizId, String playerName, int totalQuestions, int correctAnswers, long timeTaken) {
+        this.quizId = quizId == null ? CUSTOM_QUIZ : quizId;
+        this.playerName = playerName;
+        this.totalQuestions = totalQuestions;
+        this.correctAnswers = correctAnswers;
+        this.incorrectAnswers = totalQuestions - correctAnswers;
+        this.timeTaken = timeTaken;
+        this.timeTakenNanos = -1;
+        this.percentageScore = totalQuestions == 0 ? 0 : (correctAnswers * 100.0) / totalQuestions;
+        this.letterGrade = gradeFor(percentageScore);
+    }
+
+    /**
+     * Constructor for a result timed with nanosecond resolution.
+     *
+     * @param quizId Id of the quiz that was taken
+     * @param playerName Name of the player who took the quiz
+     * @param totalQuestions Total number of questions in the quiz
+     * @param correctAnswers Number of correct answers
+     * @param timeTakenNanos Time taken to complete the quiz in nanoseconds
+     * @param timings Per-question timings, or null if they were not recorded
+     */
+    public QuizResult(String quizId, String playerName, int totalQuestions, int correctAnswers,
+                      long timeTakenNanos, ResponseTimings timings) {
+        this(quizId, playerName, totalQuestions, correctAnswers, timeTakenNanos / 1_000_000_000L);
+        this.timeTakenNanos = timeTakenNanos;
+        this.timings = timings;
+    }
+
+    // Getters
+    public String getQuizId() {
+        return quizId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public int getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+
+    public long getTimeTaken() {
+        return timeTaken;
+    }
+
+    /**
+     * Returns the time taken in nanoseconds. Results that were only timed in whole seconds,
+     * such as those read back from the results journal, report their seconds converted.
+     *
+     * @return Time taken in nanoseconds
+     */
+    public long getTimeTakenNanos() {
+        return timeTakenNanos >= 0 ? timeTakenNanos : timeTaken * 1_000_000_000L;
+    }
+
+    /**
+     * Returns the per-question timings of the attempt.
+     *
+     * @return The timings, or null if they were not recorded
+     */
+    public ResponseTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Returns the percentage score, computed once when the result is created.
+     *
+     * @return Percentage score (0-100)
+     */
+    public double getPercentageScore() {
+        return percentageScore;
+    }
+
+    /**
+     * Returns the letter grade of the percentage score.
+     *
+     * @return Letter grade (A, B, C, D, F)
+     */
+    public String getLetterGrade() {
+        return letterGrade;
+    }
+
+    /**
+     * Maps a percentage score to a letter grade.
+     *
+     * @param percentage Percentage score (0-100)
+     * @return Letter grade (A, B, C, D, F)
+     */
+    public static String gradeFor(double percentage) {
+        if (percentage >= 90) {
+            return "A";
+        } else if (percentage >= 80) {
+            return "B";
+        } else if (percentage >= 70) {
+            return "C";
+        } else if (percentage >= 60) {
+            return "D";
+        } else {
+            return "F";
+        }
+    }
+
+    /**
+     * Renders the summary box into a frame, e.g. to print many results with one write.
+     *
+     * @param frame The frame to append to
+     * @return The frame
+     */
+    public Frame appendSummary(Frame frame) {
+        return fillSummary(SUMMARY.into(frame)).end();
+    }
+
+    /**
+     * Returns a formatted string representation of the quiz result.
+     *
+     * @return Formatted result string
+     */
+    @Override
+    public String toString() {
+        return fillSummary(SUMMARY.start()).toText();
+    }
+
+    private TextTemplate.Fill fillSummary(TextTemplate.Fill fill) {
+        return fill.text(String.valueOf(playerName))
+                .number(correctAnswers).number(totalQuestions)
+                .number(incorrectAnswers).number(totalQuestions)
+                .decimal(percentageScore)
+                .text(letterGrade)
+                .number(timeTaken);
+    }
+}
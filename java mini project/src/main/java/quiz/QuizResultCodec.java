@@ -0,0 +1,273 @@
+package quiz;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QuizResultCodec: A compact binary encoding of quiz results for sending them between
+ * processes or appending them to files, written to and read from caller-supplied buffers.
+ *
+ * <pre>
+ * flags     1 byte: how the player name (bits 0-1) and quiz id (bits 2-3) follow
+ * name      varint dictionary id, or varint byte length + UTF-8 bytes
+ * quizId    varint dictionary id, or varint byte length + UTF-8 bytes
+ * total     varint question count
+ * correct   varint correct answer count
+ * time      varint milliseconds taken
+ * </pre>
+ * A result of "Benchmark Player" on "programming" takes 35 bytes the first time and 8 bytes after.
+ *
+ * Names and quiz ids repeat across a stream of results, so the codec keeps a dictionary:
+ * the first time a string is written it is sent inline and assigned the next id, and later
+ * results refer to it by id. The decoder builds the same dictionary as it reads, so a stream
+ * must be decoded in the order it was encoded, by one codec instance. The encoding and decoding
+ * dictionaries are separate, so one instance can write one stream and read another.
+ * Encoding allocates nothing once a name is known, and decoding a result whose strings come
+ * from the dictionary allocates only the QuizResult itself. Codecs are not thread-safe.
+ * Per-question timings are not encoded.
+ */
+public class QuizResultCodec {
+    public static final int DEFAULT_MAX_NAMES = 4096;
+
+    private static final int INLINE = 0;
+    private static final int DEFINE = 1;
+    private static final int REFERENCE = 2;
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+
+    private final int maxNames;
+    private final Map<String, Integer> encodeIds = new HashMap<>();
+    private final List<String> decodeNames = new ArrayList<>();
+    private byte[] scratch = new byte[64];
+
+    public QuizResultCodec() {
+        this(DEFAULT_MAX_NAMES);
+    }
+
+    /**
+     * Creates a codec.
+     *
+     * @param maxNames Maximum number of strings in each dictionary; 0 always sends strings inline
+     */
+    public QuizResultCodec(int maxNames) {
+        if (maxNames < 0) {
+            throw new IllegalArgumentException("Dictionary size cannot be negative");
+        }
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * Writes a result at the position of the buffer and advances it.
+     * If the buffer is too small, its position is left unchanged and no name is added to the dictionary.
+     *
+     * @param result The result to encode
+     * @param buffer The buffer to write to
+     * @throws BufferOverflowException if the result does not fit in the remaining bytes
+     */
+    public void encode(QuizResult result, ByteBuffer buffer) {
+        int start = buffer.position();
+        String name = result.getPlayerName();
+        String quizId = result.getQuizId();
+        int nameMode = mode(name, encodeIds.size());
+        // A new quiz id gets the id after the name if both are defined by this record
+        int quizMode = quizId.equals(name) && nameMode == DEFINE ? REFERENCE
+                : mode(quizId, encodeIds.size() + (nameMode == DEFINE ? 1 : 0));
+        try {
+            buffer.put((byte) (nameMode | quizMode << 2));
+            putString(buffer, name, nameMode, encodeIds.size());
+            putString(buffer, quizId, quizMode, encodeIds.size());
+            putVarLong(buffer, result.getTotalQuestions());
+            putVarLong(buffer, result.getCorrectAnswers());
+            putVarLong(buffer, result.getTimeTakenNanos() / 1_000_000L);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        if (nameMode == DEFINE) {
+            encodeIds.put(name, encodeIds.size());
+        }
+        if (quizMode == DEFINE) {
+            encodeIds.put(quizId, encodeIds.size());
+        }
+    }
+
+    /**
+     * Reads the result at the position of the buffer and advances it.
+     * If the buffer ends inside the record, its position is left unchanged and no name is added
+     * to the dictionary, so the record can be decoded again once the rest of it has arrived.
+     *
+     * @param buffer The buffer to read from
+     * @return The decoded result, timed in milliseconds
+     * @throws BufferUnderflowException if the buffer ends inside the record
+     * @throws IllegalArgumentException if the bytes are not a valid record for this stream
+     */
+    public QuizResult decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        int knownNames = decodeNames.size();
+        try {
+            int flags = buffer.get() & 0xFF;
+            if (flags > 0xF || (flags & 3) == 3 || flags >> 2 == 3) {
+                throw new IllegalArgumentException("Corrupt result record: flags " + flags);
+            }
+            String name = getString(buffer, flags & 3);
+            String quizId = getString(buffer, flags >> 2);
+            int total = toInt(getVarLong(buffer), "question count");
+            int correct = toInt(getVarLong(buffer), "correct answer count");
+            long millis = getVarLong(buffer);
+            return new QuizResult(quizId, name, total, correct, millis * 1_000_000L, null);
+        } catch (BufferUnderflowException e) {
+            buffer.position(start);
+            decodeNames.subList(knownNames, decodeNames.size()).clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of strings the encoder has assigned ids to.
+     *
+     * @return Size of the encoding dictionary
+     */
+    public int getDictionarySize() {
+        return encodeIds.size();
+    }
+
+    // ==================== STRINGS ====================
+
+    private int mode(String value, int nextId) {
+        if (encodeIds.containsKey(value)) {
+            return REFERENCE;
+        }
+        return nextId < maxNames ? DEFINE : INLINE;
+    }
+
+    private void putString(ByteBuffer buffer, String value, int mode, int nextId) {
+        if (mode == REFERENCE) {
+            Integer id = encodeIds.get(value);
+            // Only a quiz id equal to a name being defined is not in the map yet
+            putVarLong(buffer, id != null ? id : nextId);
+            return;
+        }
+        int length = utf8Length(value);
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String longer than " + MAX_STRING_BYTES + " bytes: " + value.substring(0, 32) + "...");
+        }
+        putVarLong(buffer, length);
+        putUtf8(buffer, value);
+    }
+
+    private String getString(ByteBuffer buffer, int mode) {
+        if (mode == REFERENCE) {
+            long id = getVarLong(buffer);
+            if (id < 0 || id >= decodeNames.size()) {
+                throw new IllegalArgumentException("Corrupt result record: unknown name id " + id);
+            }
+            return decodeNames.get((int) id);
+        }
+        long length = getVarLong(buffer);
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Corrupt result record: string of " + length + " bytes");
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + (int) length);
+        } else {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max((int) length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, (int) length);
+            value = new String(scratch, 0, (int) length, StandardCharsets.UTF_8);
+        }
+        if (mode == DEFINE) {
+            decodeNames.add(value);
+        }
+        return value;
+    }
+
+    /**
+     * Counts the UTF-8 bytes of a string without encoding it.
+     */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes the UTF-8 bytes of a string; unpaired surrogates become U+FFFD.
+     */
+    private static void putUtf8(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | codePoint >> 18))
+                            .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                            .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                            .put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    buffer.put((byte) 0xEF).put((byte) 0xBF).put((byte) 0xBD);
+                }
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    // ==================== VARINTS ====================
+
+    /**
+     * Writes 7 bits per byte, lowest first, with the high bit set on all but the last byte.
+     */
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt result record: varint longer than 10 bytes");
+    }
+
+    private static int toInt(long value, String field) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Corrupt result record: " + field + " " + value);
+        }
+        return (int) value;
+    }
+}
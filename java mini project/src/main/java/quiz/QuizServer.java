@@ -0,0 +1,497 @@
+package quiz;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QuizServer: Serves quizzes from the QuizRepository over HTTP so many remote players can play at once.
+ * Uses the JDK's built-in HTTP server and runs each request on its own virtual thread when the
+ * JVM supports them, falling back to a cached platform thread pool otherwise.
+ *
+ * <pre>
+ * POST /attempts?quiz=beginner&amp;player=Alice   start an attempt
+ *      ...&amp;adaptive=true                          pick each question by the player's estimated ability
+ *      ...&amp;random=10[&amp;seed=42]                 10 random questions with shuffled options; a seed reproduces an attempt
+ * GET  /attempts/{id}/question                 fetch the next question
+ * POST /attempts/{id}/answer?choice=2          submit an answer (1-based)
+ * GET  /attempts/{id}/result                   get the QuizResult and close the attempt
+ * GET  /leaderboard?quiz=beginner&amp;limit=10    top results, of one quiz or of all quizzes
+ * </pre>
+ * Attempts not touched for -Dquiz.attemptTimeout=&lt;seconds&gt; (default 30 minutes) are dropped
+ * by a periodic sweep, so players who walk away do not keep their sessions on the heap.
+ * Remote players can only start the built-in quizzes and question banks in the bank directory,
+ * set with -Dquiz.banks=&lt;directory&gt;; their paths relative to it are used as quiz ids. Other paths
+ * are refused, so requests cannot read arbitrary files of the server.
+ */
+public class QuizServer {
+    private static final long DEFAULT_ATTEMPT_TIMEOUT_SECONDS = 30 * 60;
+
+    static {
+        // Responses are written as headers + body; without TCP_NODELAY the body waits on a delayed ACK (~40 ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService sweeper;
+    private final long attemptTimeoutNanos;
+    private final Map<String, Attempt> attempts = new ConcurrentHashMap<>();
+    private final Leaderboards leaderboards = new Leaderboards();
+    // Absolute, normalized directory of servable banks, or null to serve only the built-in quizzes
+    private final java.nio.file.Path bankDirectory;
+
+    /**
+     * Creates a server bound to the given port, serving banks from the directory named by
+     * the "quiz.banks" system property, if set. Use port 0 to pick a free port.
+     *
+     * @param port The port to listen on
+     */
+    public QuizServer(int port) throws IOException {
+        this(port, System.getProperty("quiz.banks") == null ? null : java.nio.file.Paths.get(System.getProperty("quiz.banks")));
+    }
+
+    /**
+     * Creates a server bound to the given port. Use port 0 to pick a free port.
+     *
+     * @param port The port to listen on
+     * @param bankDirectory Directory whose question banks and packs may be played, or null for built-in quizzes only
+     */
+    public QuizServer(int port, java.nio.file.Path bankDirectory) throws IOException {
+        long timeoutSeconds = Long.getLong("quiz.attemptTimeout", DEFAULT_ATTEMPT_TIMEOUT_SECONDS);
+        if (timeoutSeconds <= 0) {
+            throw new IllegalArgumentException("Attempt timeout must be positive: " + timeoutSeconds);
+        }
+        this.attemptTimeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.bankDirectory = bankDirectory == null ? null : bankDirectory.toAbsolutePath().normalize();
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/attempts", guarded(this::handle));
+        server.createContext("/leaderboard", guarded(this::handleLeaderboard));
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quiz-attempt-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Sweep four times per timeout, but at least once a minute
+        long period = Math.max(1, Math.min(60, timeoutSeconds / 4));
+        sweeper.scheduleAtFixedRate(this::sweepIdleAttempts, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, waiting up to the given number of seconds for running requests.
+     *
+     * @param delaySeconds Maximum time to wait for running requests
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        sweeper.shutdown();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of attempts that have been started but whose result was not fetched yet.
+     *
+     * @return Number of open attempts
+     */
+    public int getOpenAttempts() {
+        return attempts.size();
+    }
+
+    /**
+     * Returns the leaderboards fed by every finished attempt.
+     *
+     * @return The server's leaderboards
+     */
+    public Leaderboards getLeaderboards() {
+        return leaderboards;
+    }
+
+    /**
+     * Drops attempts that no request has touched within the attempt timeout.
+     */
+    private void sweepIdleAttempts() {
+        long now = System.nanoTime();
+        attempts.values().removeIf(attempt -> now - attempt.lastAccessNanos > attemptTimeoutNanos);
+    }
+
+    /**
+     * Creates a thread-per-request executor, preferring virtual threads (JDK 21+).
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "quiz-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // ==================== REQUEST HANDLING ====================
+
+    /**
+     * Wraps a handler so the exchange is always closed, and an unexpected failure is answered
+     * with a 500 while the exchange is still open.
+     */
+    private static HttpHandler guarded(HttpHandler handler) {
+        return exchange -> {
+            try (exchange) {
+                try {
+                    handler.handle(exchange);
+                } catch (RuntimeException e) {
+                    send(exchange, 500, error("Internal error: " + e.getMessage()));
+                }
+            }
+        };
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().split("/");
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        // path is ["", "attempts"] or ["", "attempts", id, action]
+        if (path.length == 2) {
+            if (!method.equals("POST")) {
+                send(exchange, 405, error("Use POST to start an attempt"));
+                return;
+            }
+            startAttempt(exchange, params);
+            return;
+        }
+        if (path.length != 4) {
+            send(exchange, 404, error("Unknown endpoint"));
+            return;
+        }
+
+        Attempt attempt = attempts.get(path[2]);
+        if (attempt == null) {
+            send(exchange, 404, error("Unknown attempt: " + path[2]));
+            return;
+        }
+        attempt.lastAccessNanos = System.nanoTime();
+
+        switch (method + " " + path[3]) {
+            case "GET question" -> send(exchange, 200, attempt.nextQuestion());
+            case "POST answer" -> submitAnswer(exchange, attempt, params);
+            case "GET result" -> {
+                if (attempts.remove(path[2]) == null) {
+                    send(exchange, 404, error("Unknown attempt: " + path[2]));
+                    return;
+                }
+                QuizResult result = attempt.result();
+                leaderboards.record(result);
+                send(exchange, 200, toJson(result, leaderboards.getQuiz(result.getQuizId())));
+            }
+            default -> send(exchange, 404, error("Unknown endpoint"));
+        }
+    }
+
+    private void handleLeaderboard(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            send(exchange, 405, error("Use GET to read a leaderboard"));
+            return;
+        }
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        int limit;
+        try {
+            limit = Integer.parseInt(params.getOrDefault("limit", "10"));
+        } catch (NumberFormatException e) {
+            send(exchange, 400, error("Parameter 'limit' must be a number"));
+            return;
+        }
+
+        String quizId = params.get("quiz");
+        Leaderboard board = quizId == null ? leaderboards.getGlobal() : leaderboards.getQuiz(quizId);
+        StringBuilder json = new StringBuilder("{\"quiz\":").append(quizId == null ? "null" : quote(quizId))
+                .append(",\"results\":[");
+        if (board != null) {
+            List<QuizResult> top = board.top(Math.max(0, limit));
+            for (int i = 0; i < top.size(); i++) {
+                json.append(i == 0 ? "" : ",").append(toJson(top.get(i), null));
+            }
+        }
+        send(exchange, 200, json.append("]}").toString());
+    }
+
+    private void startAttempt(HttpExchange exchange, Map<String, String> params) throws IOException {
+        String requested = params.getOrDefault("quiz", "");
+        Quiz quiz = findQuiz(requested);
+        if (quiz == null) {
+            send(exchange, 404, error("Unknown quiz: " + requested));
+            return;
+        }
+
+        String playerName = params.getOrDefault("player", "").trim();
+        if (playerName.isEmpty()) {
+            playerName = "Anonymous Adventurer";
+        }
+
+        String id = UUID.randomUUID().toString();
+        QuestionSelector selector = Boolean.parseBoolean(params.get("adaptive"))
+                ? QuizRepository.getAdaptiveSelector(quiz) : QuestionSelector.IN_ORDER;
+        QuizSession session;
+        try {
+            if (params.containsKey("random")) {
+                RandomQuizGenerator generator = new RandomQuizGenerator(quiz,
+                        Math.min(Integer.parseInt(params.get("random")), quiz.size()), true);
+                selector = generator;
+                session = params.containsKey("seed")
+                        ? generator.newSession(Long.parseLong(params.get("seed"))) : generator.newSession(quiz);
+            } else {
+                session = selector.newSession(quiz);
+            }
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed numbers
+            send(exchange, 400, error("Invalid attempt parameters: " + e.getMessage()));
+            return;
+        }
+        attempts.put(id, new Attempt(playerName, selector, session));
+        send(exchange, 201, "{\"attemptId\":" + quote(id)
+                + ",\"quiz\":" + quote(quiz.getId())
+                + ",\"totalQuestions\":" + session.getLength()
+                + (session.getSeed() != 0 ? ",\"seed\":" + session.getSeed() : "") + "}");
+    }
+
+    /**
+     * Finds a quiz remote players may start: a built-in quiz, or a bank inside the bank directory,
+     * whose id is then its path relative to the directory.
+     *
+     * @return The quiz, or null if it does not exist or may not be served
+     */
+    private Quiz findQuiz(String requested) {
+        if (QuizRepository.getBuiltInQuizIds().contains(requested)) {
+            return QuizRepository.getQuiz(requested);
+        }
+        return bankDirectory == null ? null : QuizRepository.getBank(bankDirectory, requested);
+    }
+
+    private void submitAnswer(HttpExchange exchange, Attempt attempt, Map<String, String> params) throws IOException {
+        int choice;
+        try {
+            choice = Integer.parseInt(params.getOrDefault("choice", ""));
+        } catch (NumberFormatException e) {
+            send(exchange, 400, error("Parameter 'choice' must be a number"));
+            return;
+        }
+
+        String response = attempt.answer(choice);
+        if (response == null) {
+            send(exchange, 409, error("Quiz already finished"));
+        } else if (response.isEmpty()) {
+            send(exchange, 400, error("Choice out of range"));
+        } else {
+            send(exchange, 200, response);
+        }
+    }
+
+    // ==================== ATTEMPT STATE ====================
+
+    /**
+     * Per-player progress through one quiz: a QuizSession plus the name of the player.
+     * Requests of one attempt may arrive on different threads, so the session is guarded
+     * by the attempt; the shared Quiz behind it is immutable and read without locking.
+     */
+    private static class Attempt {
+        private final String playerName;
+        private final QuestionSelector selector;
+        private final QuizSession session;
+        private boolean selected;
+        private long questionServedNanos;
+        // Read by the sweeper without the attempt's lock
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        Attempt(String playerName, QuestionSelector selector, QuizSession session) {
+            this.playerName = playerName;
+            this.selector = selector;
+            this.session = session;
+        }
+
+        /**
+         * Lets the selector choose the current question once; fetching it again returns the same one.
+         *
+         * @return false if the selector ended the attempt early
+         */
+        private boolean selectCurrent() {
+            if (!selected) {
+                int next = selector.next(session);
+                if (next < 0) {
+                    return false;
+                }
+                session.select(next);
+                selected = true;
+            }
+            return true;
+        }
+
+        synchronized String nextQuestion() {
+            if (session.isFinished() || !selectCurrent()) {
+                return "{\"finished\":true}";
+            }
+            long renderStart = System.nanoTime();
+            int index = session.getCurrentIndex();
+            Question question = session.currentQuestion();
+            StringBuilder json = new StringBuilder(256)
+                    .append("{\"finished\":false,\"number\":").append(index + 1)
+                    .append(",\"total\":").append(session.getLength())
+                    .append(",\"question\":").append(quote(question.getQuestionText()))
+                    .append(",\"options\":[");
+            List<String> options = session.currentOptions();
+            for (int i = 0; i < options.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(quote(options.get(i)));
+            }
+            String response = json.append("]}").toString();
+
+            // Waiting starts when the question is first served; fetching it again does not reset it
+            if (questionServedNanos == 0) {
+                questionServedNanos = System.nanoTime();
+                session.recordTiming(index, ResponseTimings.RENDER, questionServedNanos - renderStart);
+            }
+            return response;
+        }
+
+        /**
+         * Records an answer to the current question.
+         *
+         * @return Feedback JSON, "" if the choice is out of range, or null if the quiz is over
+         */
+        synchronized String answer(int choice) {
+            if (session.isFinished() || !selectCurrent()) {
+                return null;
+            }
+            Question question = session.currentQuestion();
+            if (choice < 1 || choice > question.getNumberOfOptions()) {
+                return "";
+            }
+            long feedbackStart = System.nanoTime();
+            int answered = session.getCurrentIndex();
+            int questionIndex = session.getQuestionIndex(answered);
+            boolean correct = session.answer(choice - 1); // Convert to 0-based index
+            selected = false;
+            selector.graded(session, questionIndex, correct);
+            String response = "{\"correct\":" + correct
+                    + ",\"correctAnswer\":" + quote(question.getCorrectAnswer())
+                    + ",\"explanation\":" + quote(question.getExplanation())
+                    + ",\"finished\":" + session.isFinished() + "}";
+
+            if (questionServedNanos != 0) {
+                session.recordTiming(answered, ResponseTimings.WAIT, feedbackStart - questionServedNanos);
+                questionServedNanos = 0;
+            }
+            session.recordTiming(answered, ResponseTimings.FEEDBACK, System.nanoTime() - feedbackStart);
+            return response;
+        }
+
+        synchronized QuizResult result() {
+            return session.result(playerName);
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Converts a result to JSON, with the player's rank when a leaderboard is given.
+     */
+    private static String toJson(QuizResult result, Leaderboard board) {
+        return "{\"quiz\":" + quote(result.getQuizId())
+                + ",\"player\":" + quote(result.getPlayerName())
+                + ",\"correct\":" + result.getCorrectAnswers()
+                + ",\"total\":" + result.getTotalQuestions()
+                + ",\"percentage\":" + result.getPercentageScore()
+                + ",\"grade\":" + quote(result.getLetterGrade())
+                + ",\"timeTaken\":" + result.getTimeTaken()
+                + (board == null ? "" : ",\"rank\":" + board.rankOf(result.getPlayerName())) + "}";
+    }
+
+    private static String error(String message) {
+        return "{\"error\":" + quote(message) + "}";
+    }
+
+    /**
+     * Quotes and escapes a string as a JSON string literal.
+     */
+    private static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
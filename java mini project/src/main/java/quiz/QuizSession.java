@@ -0,0 +1,305 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * QuizSession: One player's attempt at a Quiz.
+ * A session only holds what differs between players: the packed answers, the timings,
+ * the start time and the position in the quiz. The questions stay in the shared Quiz,
+ * so a session of a 10-question quiz takes a few hundred bytes.
+ *
+ * A session either asks every question of the quiz in order, or asks a fixed number of
+ * questions picked one at a time by a QuestionSelector (see {@link Quiz#newSession(int)}).
+ * Answers and timings are then kept per asked slot, next to the index of the question asked.
+ *
+ * A session made by a RandomQuizGenerator may also show the options of each question in a
+ * shuffled order. The shuffle is one packed long per slot instead of a copy of the question:
+ * the chosen position is mapped back to the question's own option index before it is stored
+ * and graded, so answer sheets and statistics never see the shuffled order.
+ *
+ * A session belongs to one player and is not thread-safe; callers that share it
+ * between threads (e.g. successive HTTP requests) must synchronize on it themselves.
+ */
+public final class QuizSession {
+    private final Quiz quiz;
+    private final AnswerSheet answers;
+    private final ResponseTimings timings;
+    // Quiz question asked in each slot, or null when the quiz is asked in order
+    private final int[] order;
+    // Option shown at each position, 4 bits per position, or null when options are not shuffled
+    private final long[] optionOrders;
+    private final long seed;
+    private final long startNanos;
+    private int currentIndex;
+
+    QuizSession(Quiz quiz) {
+        this(quiz, new AnswerSheet(quiz.size()), true, null, null, 0);
+    }
+
+    QuizSession(Quiz quiz, int length) {
+        this(quiz, new AnswerSheet(length), true, new int[length], null, 0);
+        Arrays.fill(order, -1);
+    }
+
+    /**
+     * Creates a session whose questions and option orders were drawn in advance.
+     *
+     * @param order Quiz question planned for each slot
+     * @param optionOrders Packed option order of each slot, or null to keep the original order
+     * @param seed Seed the plan was drawn from
+     */
+    QuizSession(Quiz quiz, int[] order, long[] optionOrders, long seed) {
+        this(quiz, new AnswerSheet(order.length), true, order, optionOrders, seed);
+    }
+
+    /**
+     * Creates a session over answers that were recorded elsewhere, e.g. to regrade an attempt.
+     *
+     * @param quiz The quiz the answers belong to
+     * @param answers The answers, one slot per question
+     * @return A finished session without timings
+     */
+    public static QuizSession regrade(Quiz quiz, AnswerSheet answers) {
+        if (answers.size() != quiz.size()) {
+            throw new IllegalArgumentException("Answer sheet has " + answers.size()
+                    + " slots but the quiz has " + quiz.size() + " questions");
+        }
+        QuizSession session = new QuizSession(quiz, answers, false, null, null, 0);
+        session.currentIndex = quiz.size();
+        return session;
+    }
+
+    private QuizSession(Quiz quiz, AnswerSheet answers, boolean timed, int[] order,
+                        long[] optionOrders, long seed) {
+        this.quiz = quiz;
+        this.answers = answers;
+        // The timings share the order, so they map each slot to the question asked as it is selected
+        this.timings = timed ? new ResponseTimings(answers.size(), order) : null;
+        this.order = order;
+        this.optionOrders = optionOrders;
+        this.seed = seed;
+        this.startNanos = System.nanoTime();
+    }
+
+    public Quiz getQuiz() {
+        return quiz;
+    }
+
+    /**
+     * Returns the seed a generated attempt was drawn from; the same seed reproduces it.
+     *
+     * @return The seed, or 0 for a session that was not generated
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the 0-based slot of the question to answer next, which is also the number of answers given.
+     *
+     * @return Slot of the current question, or the length once finished
+     */
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    /**
+     * Returns the number of questions asked in this attempt.
+     *
+     * @return The quiz size, or the length the session was started with
+     */
+    public int getLength() {
+        return answers.size();
+    }
+
+    public boolean isFinished() {
+        return currentIndex >= getLength();
+    }
+
+    /**
+     * Chooses the quiz question to ask in the current slot.
+     * A session that asks the quiz in order only accepts the question at the current slot.
+     *
+     * @param questionIndex Index of the question in the quiz
+     */
+    public void select(int questionIndex) {
+        if (isFinished()) {
+            throw new IllegalStateException("Quiz already finished");
+        }
+        if (order == null) {
+            if (questionIndex != currentIndex) {
+                throw new IllegalArgumentException("This session asks question " + (currentIndex + 1) + " next");
+            }
+            return;
+        }
+        if (questionIndex < 0 || questionIndex >= quiz.size()) {
+            throw new IndexOutOfBoundsException("Question index " + questionIndex
+                    + " out of range for " + quiz.size() + " questions");
+        }
+        order[currentIndex] = -1;
+        if (hasAsked(questionIndex)) {
+            throw new IllegalArgumentException("Question " + (questionIndex + 1) + " was already asked");
+        }
+        order[currentIndex] = questionIndex;
+    }
+
+    /**
+     * Checks if a quiz question was asked in an earlier slot or is selected for the current one.
+     *
+     * @param questionIndex Index of the question in the quiz
+     * @return true if the question was asked
+     */
+    public boolean hasAsked(int questionIndex) {
+        if (order == null) {
+            return questionIndex <= currentIndex;
+        }
+        for (int slot = 0; slot <= currentIndex && slot < order.length; slot++) {
+            if (order[slot] == questionIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the quiz question asked in a slot.
+     *
+     * @param slot 0-based slot of the attempt
+     * @return Index of the question in the quiz, or -1 if none was selected yet
+     */
+    public int getQuestionIndex(int slot) {
+        if (slot < 0 || slot >= getLength()) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of range for " + getLength() + " questions");
+        }
+        return order == null ? slot : order[slot];
+    }
+
+    /**
+     * Returns the question asked in a slot.
+     *
+     * @param slot 0-based slot of the attempt
+     * @return The question
+     */
+    public Question getQuestion(int slot) {
+        int questionIndex = getQuestionIndex(slot);
+        if (questionIndex < 0) {
+            throw new IllegalStateException("No question selected for slot " + (slot + 1));
+        }
+        return quiz.getQuestion(questionIndex);
+    }
+
+    /**
+     * Returns the question to answer next.
+     *
+     * @return The current question
+     */
+    public Question currentQuestion() {
+        if (isFinished()) {
+            throw new IllegalStateException("Quiz already finished");
+        }
+        return getQuestion(currentIndex);
+    }
+
+    /**
+     * Returns the options of a slot's question in the order they are shown to the player.
+     *
+     * @param slot 0-based slot of the attempt
+     * @return The options, shuffled if this session shuffles them
+     */
+    public List<String> getOptions(int slot) {
+        List<String> options = getQuestion(slot).getOptions();
+        if (optionOrders == null) {
+            return options;
+        }
+        List<String> shown = new ArrayList<>(options.size());
+        for (int position = 0; position < options.size(); position++) {
+            shown.add(options.get(toOptionIndex(slot, position)));
+        }
+        return shown;
+    }
+
+    public List<String> currentOptions() {
+        return getOptions(currentIndex);
+    }
+
+    /**
+     * Maps a shown position to the index of the option in the question.
+     *
+     * @param slot 0-based slot of the attempt
+     * @param position 0-based position the option is shown at
+     * @return Index of the option in the question
+     */
+    public int toOptionIndex(int slot, int position) {
+        return optionOrders == null ? position : (int) (optionOrders[slot] >>> (4 * position)) & 0xF;
+    }
+
+    /**
+     * Records the answer to the current question and moves on to the next one.
+     *
+     * @param position 0-based position of the chosen option as shown to the player
+     * @return true if the answer is correct
+     */
+    public boolean answer(int position) {
+        Question question = currentQuestion();
+        if (position < 0 || position >= question.getNumberOfOptions()) {
+            throw new IllegalArgumentException("Choice out of range: " + (position + 1));
+        }
+        int optionIndex = toOptionIndex(currentIndex, position);
+        answers.set(currentIndex, optionIndex);
+        currentIndex++;
+        return question.isCorrect(optionIndex);
+    }
+
+    /**
+     * Records how long one phase of a question took.
+     *
+     * @param questionIndex 0-based slot of the question in this attempt
+     * @param phase ResponseTimings.RENDER, WAIT or FEEDBACK
+     * @param elapsedNanos Elapsed time in nanoseconds
+     */
+    public void recordTiming(int questionIndex, int phase, long elapsedNanos) {
+        if (timings != null) {
+            timings.record(questionIndex, phase, elapsedNanos);
+        }
+    }
+
+    public AnswerSheet getAnswers() {
+        return answers;
+    }
+
+    /**
+     * Returns the timings of the attempt.
+     *
+     * @return The timings, or null for a regraded attempt
+     */
+    public ResponseTimings getTimings() {
+        return timings;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Grades the attempt.
+     *
+     * @param playerName Name of the player
+     * @return The result of the attempt so far
+     */
+    public QuizResult result(String playerName) {
+        int correctCount;
+        if (order == null) {
+            correctCount = quiz.countCorrect(answers);
+        } else {
+            correctCount = 0;
+            for (int slot = 0; slot < currentIndex; slot++) {
+                if (answers.isAnswered(slot) && quiz.getQuestion(order[slot]).isCorrect(answers.get(slot))) {
+                    correctCount++;
+                }
+            }
+        }
+        return new QuizResult(quiz.getId(), playerName, getLength(), correctCount, getElapsedNanos(), timings);
+    }
+}
@@ -0,0 +1,209 @@
+package quiz;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QuizStatistics: Running totals of quiz results, updated once per result instead of
+ * rescanning every result when statistics are shown.
+ * Totals are kept overall, per quiz and per player with contention-free counters, and a
+ * fixed-size score histogram per quiz answers percentile queries in constant time.
+ * Results with per-question timings also feed one latency histogram per phase of each question
+ * actually asked, so a short attempt at a huge bank only adds histograms for its own questions.
+ */
+public class QuizStatistics {
+    private final Totals overall = new Totals(true);
+    private final ConcurrentHashMap<String, Totals> byQuiz = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Totals> byPlayer = new ConcurrentHashMap<>();
+    // Per quiz and asked question: one histogram per timing phase, created when the question is first timed
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Integer, LatencyHistogram[]>> latencies =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Adds a result to all totals. Safe to call from any number of threads.
+     *
+     * @param result The result to add
+     */
+    public void record(QuizResult result) {
+        overall.add(result);
+        byQuiz.computeIfAbsent(result.getQuizId(), id -> new Totals(true)).add(result);
+        byPlayer.computeIfAbsent(result.getPlayerName(), name -> new Totals(false)).add(result);
+
+        ResponseTimings timings = result.getTimings();
+        if (timings != null) {
+            // Slots of adaptive and random attempts hold other quiz questions than their position
+            ConcurrentHashMap<Integer, LatencyHistogram[]> questions =
+                    latencies.computeIfAbsent(result.getQuizId(), id -> new ConcurrentHashMap<>());
+            for (int slot = 0; slot < timings.getQuestionCount(); slot++) {
+                int question = timings.getQuestionIndex(slot);
+                if (question < 0 || timings.getQuestionNanos(slot) == 0) {
+                    continue; // Not asked
+                }
+                LatencyHistogram[] histograms = questions.computeIfAbsent(question, index -> newPhaseHistograms());
+                for (int phase = 0; phase < ResponseTimings.PHASES; phase++) {
+                    histograms[phase].record(timings.get(slot, phase));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the latency histogram of one phase of a question, aggregated over all attempts.
+     *
+     * @param quizId Id of the quiz
+     * @param questionIndex 0-based index of the question in the quiz, whatever slot attempts asked it in
+     * @param phase ResponseTimings.RENDER, WAIT or FEEDBACK
+     * @return The histogram, or null if no timed attempt reached the question
+     */
+    public LatencyHistogram getQuestionLatency(String quizId, int questionIndex, int phase) {
+        if (phase < 0 || phase >= ResponseTimings.PHASES) {
+            throw new IllegalArgumentException("Unknown timing phase: " + phase);
+        }
+        ConcurrentHashMap<Integer, LatencyHistogram[]> questions = latencies.get(quizId);
+        LatencyHistogram[] histograms = questions == null ? null : questions.get(questionIndex);
+        return histograms == null ? null : histograms[phase];
+    }
+
+    private static LatencyHistogram[] newPhaseHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[ResponseTimings.PHASES];
+        for (int phase = 0; phase < histograms.length; phase++) {
+            histograms[phase] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns the totals over all results.
+     */
+    public Totals getOverall() {
+        return overall;
+    }
+
+    /**
+     * Returns the totals of one quiz.
+     *
+     * @param quizId Id of the quiz
+     * @return The totals, or null if the quiz has no results
+     */
+    public Totals getQuiz(String quizId) {
+        return byQuiz.get(quizId);
+    }
+
+    /**
+     * Returns the totals of one player. Player totals have no score histogram.
+     *
+     * @param playerName Name of the player
+     * @return The totals, or null if the player has no results
+     */
+    public Totals getPlayer(String playerName) {
+        return byPlayer.get(playerName);
+    }
+
+    /**
+     * Returns the ids of all quizzes with results.
+     */
+    public Set<String> getQuizIds() {
+        return Collections.unmodifiableSet(byQuiz.keySet());
+    }
+
+    /**
+     * Returns the number of distinct players.
+     */
+    public int getPlayerCount() {
+        return byPlayer.size();
+    }
+
+    // ==================== TOTALS ====================
+
+    /**
+     * Totals of a group of results. Reads are not atomic across counters, so while results
+     * are being added a snapshot may mix values from slightly different moments.
+     */
+    public static final class Totals {
+        private static final int BUCKETS = 101; // one per whole percent, 0..100
+
+        private final LongAdder results = new LongAdder();
+        private final LongAdder correctAnswers = new LongAdder();
+        private final LongAdder totalQuestions = new LongAdder();
+        private final LongAdder percentageHundredths = new LongAdder();
+        private final LongAdder[] histogram;
+
+        private Totals(boolean withHistogram) {
+            this.histogram = withHistogram ? new LongAdder[BUCKETS] : null;
+            if (withHistogram) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    histogram[i] = new LongAdder();
+                }
+            }
+        }
+
+        private void add(QuizResult result) {
+            double percentage = result.getPercentageScore();
+            results.increment();
+            correctAnswers.add(result.getCorrectAnswers());
+            totalQuestions.add(result.getTotalQuestions());
+            percentageHundredths.add(Math.round(percentage * 100));
+            if (histogram != null) {
+                histogram[Math.max(0, Math.min(BUCKETS - 1, (int) percentage))].increment();
+            }
+        }
+
+        public long getResults() {
+            return results.sum();
+        }
+
+        public long getCorrectAnswers() {
+            return correctAnswers.sum();
+        }
+
+        public long getTotalQuestions() {
+            return totalQuestions.sum();
+        }
+
+        /**
+         * Returns the average of the per-result percentage scores.
+         *
+         * @return Average percentage (0-100), or 0 without results
+         */
+        public double getAveragePercentage() {
+            long count = results.sum();
+            return count == 0 ? 0 : percentageHundredths.sum() / 100.0 / count;
+        }
+
+        /**
+         * Returns the score below or at which the given share of results fall, to the whole percent.
+         * Walks the 101 histogram buckets, so the cost does not depend on the number of results.
+         *
+         * @param percentile Share of results, from 0 to 100
+         * @return Percentage score (0-100), or 0 without results
+         */
+        public int getPercentile(double percentile) {
+            if (histogram == null) {
+                throw new IllegalStateException("Player totals have no score histogram");
+            }
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                count += counts[i];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return BUCKETS - 1;
+        }
+    }
+}
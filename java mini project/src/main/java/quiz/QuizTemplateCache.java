@@ -0,0 +1,197 @@
+package quiz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * QuizTemplateCache: Keeps built quiz templates so selecting a quiz does not rebuild its questions.
+ * Templates are immutable Quiz definitions shared by every attempt. The cache is bounded by a total
+ * weight (the number of questions held on the heap) and evicts the least recently used templates first.
+ */
+public class QuizTemplateCache {
+    private final Function<String, List<Question>> loader;
+    private final long maxWeight;
+    private final LinkedHashMap<String, Quiz> templates = new LinkedHashMap<>(16, 0.75f, true);
+    // Loads in flight, so concurrent misses on one quiz build it once
+    private final Map<String, CompletableFuture<Quiz>> loading = new HashMap<>();
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache.
+     *
+     * @param loader Builds the questions of a quiz id, or returns null for unknown ids
+     * @param maxWeight Maximum total weight of cached templates
+     */
+    public QuizTemplateCache(Function<String, List<Question>> loader, long maxWeight) {
+        this.loader = loader;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the template of a quiz, building it on a miss.
+     * A template is built outside the lock, so a slow load never blocks hits on other quizzes,
+     * and only once: concurrent misses on the same quiz wait for the load already in flight.
+     *
+     * @param quizId Id of the quiz
+     * @return The quiz, or null if the loader does not know the id
+     */
+    public Quiz get(String quizId) {
+        return get(quizId, quizId, () -> loader.apply(quizId));
+    }
+
+    /**
+     * Returns a template cached under a key of the caller's choosing, building it with the
+     * given loader on a miss, e.g. to give a bank file a shorter id than its path.
+     *
+     * @param key Cache key, unique to the source of the questions
+     * @param quizId Id of the built quiz
+     * @param questions Builds the questions, or returns null if there are none
+     * @return The quiz, or null if the loader returned null
+     */
+    public Quiz get(String key, String quizId, Supplier<List<Question>> questions) {
+        CompletableFuture<Quiz> load;
+        boolean owner = false;
+        synchronized (this) {
+            Quiz template = templates.get(key);
+            if (template != null) {
+                hits++;
+                return template;
+            }
+            misses++;
+            load = loading.get(key);
+            if (load == null) {
+                load = new CompletableFuture<>();
+                loading.put(key, load);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            return await(load);
+        }
+
+        Quiz template;
+        try {
+            List<Question> loaded = questions.get();
+            template = loaded == null ? null : Quiz.of(quizId, loaded);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key, load);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+
+        synchronized (this) {
+            // An invalidate during the load drops the in-flight entry; that template is used but not cached
+            if (loading.remove(key, load) && template != null) {
+                templates.put(key, template);
+                weight += weightOf(template);
+                evictOverweight(key);
+            }
+        }
+        load.complete(template);
+        return template;
+    }
+
+    /**
+     * Removes a template, e.g. after its source file changed.
+     *
+     * @param key Id of the quiz, or the key it was cached under
+     */
+    public synchronized void invalidate(String key) {
+        loading.remove(key);
+        Quiz removed = templates.remove(key);
+        if (removed != null) {
+            weight -= weightOf(removed);
+            release(removed);
+        }
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Waits for a load started by another thread, rethrowing its failure as it was thrown.
+     */
+    private static Quiz await(CompletableFuture<Quiz> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts least recently used templates until the cache fits, but never the one just added.
+     */
+    private void evictOverweight(String keep) {
+        var iterator = templates.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<String, Quiz> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            weight -= weightOf(eldest.getValue());
+            evictions++;
+            release(eldest.getValue());
+        }
+    }
+
+    /**
+     * Heap weight of a template: its question count, or 1 for a memory-mapped pack
+     * whose questions live in the page cache.
+     */
+    private static long weightOf(Quiz template) {
+        return template.getQuestions() instanceof QuizPack ? 1 : Math.max(1, template.size());
+    }
+
+    /**
+     * Closes the file behind an evicted pack or bank. Attempts still using a pack keep working,
+     * because a mapping stays valid after its channel is closed; attempts still on an evicted
+     * bank can only show the explanations its store has cached.
+     */
+    private static void release(Quiz template) {
+        if (template.getQuestions() instanceof Closeable) {
+            try {
+                ((Closeable) template.getQuestions()).close();
+            } catch (IOException e) {
+                // Nothing useful to do for an evicted template
+            }
+        }
+    }
+}
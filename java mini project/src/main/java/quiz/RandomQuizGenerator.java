@@ -0,0 +1,151 @@
+package quiz;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RandomQuizGenerator: Draws a random set of questions from a large bank for every attempt,
+ * optionally with the options of each question shuffled per player.
+ *
+ * An attempt is planned entirely from one seed with a SplittableRandom, so the same seed
+ * always reproduces the same questions in the same order with the same option orders.
+ * Questions are sampled with Floyd's algorithm, which costs O(N) for N questions no matter
+ * how large the bank is, and nothing is copied: the session only keeps the N question indices
+ * and one packed long of option order per question, over the shared Quiz.
+ */
+public class RandomQuizGenerator implements QuestionSelector {
+    private final Quiz bank;
+    private final int questionsPerAttempt;
+    private final boolean shuffleOptions;
+
+    /**
+     * Creates a generator.
+     *
+     * @param bank The questions to draw from
+     * @param questionsPerAttempt Number of questions per attempt
+     * @param shuffleOptions Whether to show the options of every question in a random order
+     */
+    public RandomQuizGenerator(Quiz bank, int questionsPerAttempt, boolean shuffleOptions) {
+        if (questionsPerAttempt < 1 || questionsPerAttempt > bank.size()) {
+            throw new IllegalArgumentException("Questions per attempt must be between 1 and " + bank.size());
+        }
+        this.bank = bank;
+        this.questionsPerAttempt = questionsPerAttempt;
+        this.shuffleOptions = shuffleOptions;
+    }
+
+    public Quiz getBank() {
+        return bank;
+    }
+
+    public int getQuestionsPerAttempt() {
+        return questionsPerAttempt;
+    }
+
+    /**
+     * Starts an attempt with a fresh random seed.
+     */
+    @Override
+    public QuizSession newSession(Quiz quiz) {
+        if (quiz != bank) {
+            throw new IllegalArgumentException("This generator draws from quiz " + bank.getId() + ", not " + quiz.getId());
+        }
+        return newSession(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Starts the attempt planned by a seed.
+     *
+     * @param seed Seed of the attempt, e.g. from {@link QuizSession#getSeed()} of an earlier one
+     * @return A session asking the planned questions
+     */
+    public QuizSession newSession(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] order = sample(random, bank.size(), questionsPerAttempt);
+        long[] optionOrders = null;
+        if (shuffleOptions) {
+            optionOrders = new long[order.length];
+            for (int slot = 0; slot < order.length; slot++) {
+                optionOrders[slot] = shuffle(random, bank.getQuestion(order[slot]).getNumberOfOptions());
+            }
+        }
+        return new QuizSession(bank, order, optionOrders, seed);
+    }
+
+    /**
+     * Asks the questions in the planned order.
+     */
+    @Override
+    public int next(QuizSession session) {
+        return session.isFinished() ? -1 : session.getQuestionIndex(session.getCurrentIndex());
+    }
+
+    /**
+     * Picks count distinct indices below n in random order.
+     * Floyd's algorithm draws each index once, remembering picks in a small open-addressing set,
+     * and a final Fisher-Yates pass randomizes their order.
+     */
+    static int[] sample(SplittableRandom random, int n, int count) {
+        int[] picks = new int[count];
+        int[] table = new int[Integer.highestOneBit(Math.max(1, count) * 2) << 1];
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+        int picked = 0;
+        for (int j = n - count; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!insert(table, mask, candidate)) {
+                // Already picked: j itself cannot have been picked yet
+                candidate = j;
+                insert(table, mask, candidate);
+            }
+            picks[picked++] = candidate;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int k = random.nextInt(i + 1);
+            int swap = picks[i];
+            picks[i] = picks[k];
+            picks[k] = swap;
+        }
+        return picks;
+    }
+
+    /**
+     * Adds a value to an open-addressing set.
+     *
+     * @return false if it was already present
+     */
+    private static boolean insert(int[] table, int mask, int value) {
+        int hash = value * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (table[slot] != -1) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        return true;
+    }
+
+    /**
+     * Shuffles the option indices 0..count-1 and packs them 4 bits per position.
+     */
+    static long shuffle(SplittableRandom random, int count) {
+        if (count > AnswerSheet.MAX_ANSWER_INDEX + 1) {
+            throw new IllegalArgumentException("Cannot shuffle more than " + (AnswerSheet.MAX_ANSWER_INDEX + 1) + " options");
+        }
+        long packed = 0;
+        for (int i = 0; i < count; i++) {
+            packed |= (long) i << (4 * i);
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int k = random.nextInt(i + 1);
+            long atI = (packed >>> (4 * i)) & 0xF;
+            long atK = (packed >>> (4 * k)) & 0xF;
+            packed &= ~((0xFL << (4 * i)) | (0xFL << (4 * k)));
+            packed |= (atK << (4 * i)) | (atI << (4 * k));
+        }
+        return packed;
+    }
+}
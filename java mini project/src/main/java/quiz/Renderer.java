@@ -0,0 +1,39 @@
+package quiz;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Renderer: Where GameUI sends its screens.
+ * Implementations decide how frames are written and how animations and pauses are timed,
+ * so the same game can run on a color terminal, as plain text, or headless.
+ */
+public interface Renderer {
+
+    /**
+     * Writes a composed screen.
+     *
+     * @param frame The frame to write
+     */
+    void render(Frame frame);
+
+    /**
+     * Plays an animation without blocking the caller.
+     *
+     * @param animation The animation to play
+     * @return Completes once the last step has been written
+     */
+    CompletableFuture<Void> play(Animation animation);
+
+    /**
+     * Waits without blocking the caller.
+     *
+     * @param milliseconds How long to wait
+     * @return Completes after the delay
+     */
+    CompletableFuture<Void> delay(long milliseconds);
+
+    /**
+     * Clears the screen.
+     */
+    void clearScreen();
+}
@@ -0,0 +1,108 @@
+package quiz;
+
+/**
+ * ResponseTimings: Nanosecond timings of every question in one attempt, split into the time to
+ * render the question, the time spent waiting for the player's answer, and the time spent
+ * showing feedback. All timings live in one long array with three slots per question.
+ *
+ * Timings are kept per slot of the attempt, in the order questions were asked. Adaptive and
+ * random attempts ask quiz questions in a different order, so the timings also carry the quiz
+ * question asked in each slot; use {@link #getQuestionIndex(int)} to attribute them to questions.
+ */
+public final class ResponseTimings {
+    public static final int RENDER = 0;
+    public static final int WAIT = 1;
+    public static final int FEEDBACK = 2;
+    public static final int PHASES = 3;
+
+    private final long[] nanos;
+    // Quiz question asked in each slot, or null when questions are asked in order
+    private final int[] order;
+
+    /**
+     * Creates empty timings for an attempt that asks the questions of a quiz in order.
+     *
+     * @param questionCount Number of questions in the attempt
+     */
+    public ResponseTimings(int questionCount) {
+        this(questionCount, null);
+    }
+
+    /**
+     * Creates empty timings for an attempt.
+     *
+     * @param questionCount Number of questions in the attempt
+     * @param order Quiz question asked in each slot, -1 until selected, or null for questions in order;
+     *              kept by reference, so the session can fill it in as it selects questions
+     */
+    ResponseTimings(int questionCount, int[] order) {
+        if (questionCount < 0) {
+            throw new IllegalArgumentException("Question count cannot be negative");
+        }
+        if (order != null && order.length != questionCount) {
+            throw new IllegalArgumentException("Order has " + order.length + " slots but the attempt has "
+                    + questionCount + " questions");
+        }
+        this.nanos = new long[questionCount * PHASES];
+        this.order = order;
+    }
+
+    /**
+     * Records how long one phase of a question took.
+     *
+     * @param questionIndex 0-based question index
+     * @param phase RENDER, WAIT or FEEDBACK
+     * @param elapsedNanos Elapsed time in nanoseconds
+     */
+    public void record(int questionIndex, int phase, long elapsedNanos) {
+        nanos[slot(questionIndex, phase)] = elapsedNanos;
+    }
+
+    /**
+     * Returns how long one phase of a question took.
+     *
+     * @param questionIndex 0-based question index
+     * @param phase RENDER, WAIT or FEEDBACK
+     * @return Elapsed time in nanoseconds, or 0 if the question was not asked
+     */
+    public long get(int questionIndex, int phase) {
+        return nanos[slot(questionIndex, phase)];
+    }
+
+    /**
+     * Returns the total time of all phases of a question.
+     *
+     * @param questionIndex 0-based question index
+     * @return Elapsed time in nanoseconds
+     */
+    public long getQuestionNanos(int questionIndex) {
+        int base = slot(questionIndex, RENDER);
+        return nanos[base] + nanos[base + WAIT] + nanos[base + FEEDBACK];
+    }
+
+    public int getQuestionCount() {
+        return nanos.length / PHASES;
+    }
+
+    /**
+     * Returns the quiz question asked in a slot of the attempt.
+     *
+     * @param questionIndex 0-based slot of the attempt
+     * @return Index of the question in the quiz, or -1 if none was selected for the slot
+     */
+    public int getQuestionIndex(int questionIndex) {
+        slot(questionIndex, RENDER);
+        return order == null ? questionIndex : order[questionIndex];
+    }
+
+    private int slot(int questionIndex, int phase) {
+        if (phase < 0 || phase >= PHASES) {
+            throw new IllegalArgumentException("Unknown timing phase: " + phase);
+        }
+        if (questionIndex < 0 || questionIndex >= getQuestionCount()) {
+            throw new IndexOutOfBoundsException("Question index " + questionIndex
+                    + " out of range for " + getQuestionCount() + " questions");
+        }
+        return questionIndex * PHASES + phase;
+    }
+}
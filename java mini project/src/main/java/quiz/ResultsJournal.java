@@ -0,0 +1,471 @@
+package quiz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * ResultsJournal: A crash-safe, append-only log of quiz results on local disk.
+ * Appends are buffered and written by one writer thread, which syncs the file once per batch
+ * (group commit), so a single fsync covers every result appended while the previous one ran.
+ *
+ * <pre>
+ * header   magic, version, reserved
+ * records  fixed-width records: crc32, nameLength, quizIdLength, reserved, totalQuestions,
+ *          correctAnswers, timeTaken, UTF-8 player name padded to NAME_SIZE bytes,
+ *          UTF-8 quiz id padded to QUIZ_ID_SIZE bytes
+ * </pre>
+ *
+ * Version 1 journals have no quiz id and are migrated to the current version when opened.
+ *
+ * Every record carries a CRC32 of its remaining bytes. A torn write at the end of the file is
+ * cut off when the journal is opened; damaged records elsewhere are skipped and removed by a
+ * background compaction that rewrites only the valid records.
+ */
+public class ResultsJournal implements Closeable {
+    private static final int MAGIC = 0x51524A4C; // "QRJL"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    private static final int NAME_SIZE = 40;
+    private static final int QUIZ_ID_SIZE = 32;
+    // crc + nameLength + quizIdLength + reserved short + totalQuestions + correctAnswers + timeTaken + name + quizId
+    static final int RECORD_SIZE = 4 + 1 + 1 + 2 + 4 + 4 + 8 + NAME_SIZE + QUIZ_ID_SIZE;
+    private static final int VERSION_1_RECORD_SIZE = RECORD_SIZE - QUIZ_ID_SIZE;
+    private static final int INITIAL_BUFFER_RECORDS = 1024;
+    private static final int MAX_WINDOW_SIZE = 1 << 30;
+
+    private final Path file;
+    private final Object io = new Object();
+    private final Thread writer;
+
+    // Guarded by io
+    private FileChannel channel;
+    private long writePosition;
+
+    // Guarded by this
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_RECORDS * RECORD_SIZE);
+    private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER_RECORDS * RECORD_SIZE);
+    private long appended;
+    private long durable;
+    private int skippedRecords;
+    private IOException failure;
+    private boolean closed;
+
+    private final CRC32 appendCrc = new CRC32();
+
+    private ResultsJournal(Path file, FileChannel channel, long writePosition, long records, int skippedRecords) {
+        this.file = file;
+        this.channel = channel;
+        this.writePosition = writePosition;
+        this.appended = records;
+        this.durable = records;
+        this.skippedRecords = skippedRecords;
+        this.writer = new Thread(this::writeLoop, "quiz-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Opens a journal, creating it if it does not exist. A partially written record at the
+     * end of the file is cut off, and damaged records elsewhere are compacted away in the background.
+     *
+     * @param file The journal file
+     * @return The opened journal, positioned after the last valid record
+     */
+    public static ResultsJournal open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(0);
+                channel.write(header.flip(), 0);
+                channel.force(true);
+            }
+
+            ScanResult scan = scan(file, channel, null);
+            if (scan.end < channel.size()) {
+                channel.truncate(scan.end);
+                channel.force(true);
+            }
+
+            ResultsJournal journal = new ResultsJournal(file, channel, scan.end, scan.valid, scan.skipped);
+            if (scan.version < VERSION) {
+                try {
+                    journal.compact();
+                } catch (IOException | RuntimeException e) {
+                    journal.close();
+                    throw e;
+                }
+            } else if (scan.skipped > 0) {
+                Thread compactor = new Thread(() -> {
+                    try {
+                        journal.compact();
+                    } catch (IOException e) {
+                        // Damaged records stay skipped until the next successful compaction
+                    }
+                }, "quiz-journal-compactor");
+                compactor.setDaemon(true);
+                compactor.start();
+            }
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // ==================== APPENDING ====================
+
+    /**
+     * Appends a result. The record is written and synced by the writer thread shortly after;
+     * use {@link #awaitDurable(long)} or {@link #flush()} to wait for it.
+     *
+     * @param result The result to append
+     * @return Sequence number of the record, counted from the first record in the journal
+     * @throws IOException if an earlier write failed; the writer has stopped and nothing more is saved
+     */
+    public synchronized long append(QuizResult result) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new IOException("Results journal write failed: " + file, failure);
+        }
+        if (pending.remaining() < RECORD_SIZE) {
+            ByteBuffer larger = ByteBuffer.allocate(pending.capacity() * 2);
+            pending = larger.put(pending.flip());
+        }
+        encode(result, pending, appendCrc);
+        appended++;
+        notifyAll();
+        return appended;
+    }
+
+    /**
+     * Blocks until the record with the given sequence number is on disk.
+     *
+     * @param sequence A value returned by {@link #append(QuizResult)}
+     */
+    public synchronized void awaitDurable(long sequence) throws IOException {
+        boolean interrupted = false;
+        while (durable < sequence && failure == null) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new IOException("Results journal write failed: " + file, failure);
+        }
+    }
+
+    /**
+     * Blocks until every result appended so far is on disk.
+     */
+    public void flush() throws IOException {
+        long sequence;
+        synchronized (this) {
+            sequence = appended;
+        }
+        awaitDurable(sequence);
+    }
+
+    /**
+     * Writer thread: swaps the pending buffer out, writes it with one call and syncs once.
+     */
+    private void writeLoop() {
+        while (true) {
+            long batchEnd;
+            ByteBuffer batch;
+            synchronized (this) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // Only close() stops the writer
+                    }
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                batch = pending;
+                pending = writing;
+                writing = batch;
+                batchEnd = appended;
+            }
+
+            try {
+                batch.flip();
+                synchronized (io) {
+                    while (batch.hasRemaining()) {
+                        writePosition += channel.write(batch, writePosition);
+                    }
+                    channel.force(false);
+                }
+                batch.clear();
+                synchronized (this) {
+                    durable = batchEnd;
+                    notifyAll();
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    failure = e;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * Replays every valid record in order by scanning a memory-mapped view of the file.
+     * Results appended but not yet written are not included.
+     *
+     * @param consumer Receives each result
+     * @return Number of results replayed
+     */
+    public long replay(Consumer<QuizResult> consumer) throws IOException {
+        synchronized (io) {
+            return scan(file, channel, consumer).valid;
+        }
+    }
+
+    /**
+     * Returns the number of damaged records skipped since the last compaction.
+     */
+    public synchronized int getSkippedRecords() {
+        return skippedRecords;
+    }
+
+    /**
+     * Returns the number of results appended, including those still waiting to be written.
+     */
+    public synchronized long size() {
+        return appended;
+    }
+
+    /**
+     * Scans the journal from the header up to the last complete record, mapping at most
+     * MAX_WINDOW_SIZE bytes at a time. Stops at the first damaged record that is followed
+     * only by damaged records.
+     */
+    private static ScanResult scan(Path file, FileChannel channel, Consumer<QuizResult> consumer) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            throw new IOException("Not a results journal: " + file);
+        }
+        ScanResult result = new ScanResult();
+        result.end = HEADER_SIZE;
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a results journal: " + file);
+        }
+        result.version = header.getInt(4);
+        if (result.version != 1 && result.version != VERSION) {
+            throw new IOException("Unsupported results journal version: " + result.version);
+        }
+        int recordSize = result.version == 1 ? VERSION_1_RECORD_SIZE : RECORD_SIZE;
+
+        CRC32 crc = new CRC32();
+        byte[] text = new byte[Math.max(NAME_SIZE, QUIZ_ID_SIZE)];
+        int damagedRun = 0;
+        // A mapping holds at most 2 GB, so larger journals are mapped one window of whole records at a time
+        long windowRecords = MAX_WINDOW_SIZE / recordSize;
+        for (long window = HEADER_SIZE; window + recordSize <= size; ) {
+            int windowSize = (int) (Math.min(windowRecords, (size - window) / recordSize) * recordSize);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, window, windowSize);
+            ByteBuffer view = buffer.duplicate();
+            for (int start = 0; start < windowSize; start += recordSize) {
+                crc.reset();
+                crc.update(view.limit(start + recordSize).position(start + 4));
+                if ((int) crc.getValue() != buffer.getInt(start) || (buffer.get(start + 4) & 0xFF) > NAME_SIZE
+                        || (result.version > 1 && (buffer.get(start + 5) & 0xFF) > QUIZ_ID_SIZE)) {
+                    damagedRun++;
+                    continue;
+                }
+                result.skipped += damagedRun;
+                damagedRun = 0;
+                result.valid++;
+                result.end = window + start + recordSize;
+                if (consumer != null) {
+                    consumer.accept(decode(buffer, start, result.version, text));
+                }
+            }
+            window += windowSize;
+        }
+        return result;
+    }
+
+    private static final class ScanResult {
+        int version;
+        long valid;
+        int skipped;
+        long end;
+    }
+
+    // ==================== ENCODING ====================
+
+    private static void encode(QuizResult result, ByteBuffer buffer, CRC32 crc) {
+        int start = buffer.position();
+        byte[] name = result.getPlayerName().getBytes(StandardCharsets.UTF_8);
+        int nameLength = fittingLength(name, NAME_SIZE);
+        byte[] quizId = result.getQuizId().getBytes(StandardCharsets.UTF_8);
+        int quizIdLength = fittingLength(quizId, QUIZ_ID_SIZE);
+
+        buffer.putInt(0)
+                .put((byte) nameLength)
+                .put((byte) quizIdLength)
+                .putShort((short) 0)
+                .putInt(result.getTotalQuestions())
+                .putInt(result.getCorrectAnswers())
+                .putLong(result.getTimeTaken())
+                .put(name, 0, nameLength);
+        pad(buffer, NAME_SIZE - nameLength);
+        buffer.put(quizId, 0, quizIdLength);
+        pad(buffer, QUIZ_ID_SIZE - quizIdLength);
+
+        crc.reset();
+        crc.update(buffer.array(), start + 4, RECORD_SIZE - 4);
+        buffer.putInt(start, (int) crc.getValue());
+    }
+
+    private static QuizResult decode(ByteBuffer buffer, int start, int version, byte[] text) {
+        int nameLength = buffer.get(start + 4) & 0xFF;
+        int totalQuestions = buffer.getInt(start + 8);
+        int correctAnswers = buffer.getInt(start + 12);
+        long timeTaken = buffer.getLong(start + 16);
+        buffer.get(start + 24, text, 0, nameLength);
+        String playerName = new String(text, 0, nameLength, StandardCharsets.UTF_8);
+
+        String quizId = QuizResult.CUSTOM_QUIZ;
+        if (version > 1) {
+            int quizIdLength = buffer.get(start + 5) & 0xFF;
+            buffer.get(start + 24 + NAME_SIZE, text, 0, quizIdLength);
+            quizId = new String(text, 0, quizIdLength, StandardCharsets.UTF_8);
+        }
+        return new QuizResult(quizId, playerName, totalQuestions, correctAnswers, timeTaken);
+    }
+
+    /**
+     * Returns how many bytes of the UTF-8 text fit in the limit without cutting a character in half.
+     */
+    private static int fittingLength(byte[] utf8, int limit) {
+        int length = Math.min(utf8.length, limit);
+        while (length < utf8.length && (utf8[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return length;
+    }
+
+    private static void pad(ByteBuffer buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Rewrites the journal with only its valid records and atomically replaces the file.
+     * The rename is synced to disk before the writer continues, so no append is reported
+     * durable in a file that a crash could still undo.
+     * Appends keep buffering while this runs and are written to the new file afterwards.
+     */
+    public void compact() throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        synchronized (io) {
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(0);
+                out.write(header.flip());
+
+                ByteBuffer records = ByteBuffer.allocate(INITIAL_BUFFER_RECORDS * RECORD_SIZE);
+                CRC32 crc = new CRC32();
+                scan(file, channel, result -> {
+                    try {
+                        if (records.remaining() < RECORD_SIZE) {
+                            out.write(records.flip());
+                            records.clear();
+                        }
+                        encode(result, records, crc);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.write(records.flip());
+                out.force(true);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            channel.close();
+            try {
+                Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                // Until the rename is on disk a crash brings the old file back, so sync it before any new append
+                syncDirectory(file.toAbsolutePath().getParent());
+            } finally {
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                writePosition = channel.size();
+            }
+        }
+        synchronized (this) {
+            skippedRecords = 0;
+        }
+    }
+
+    /**
+     * Makes the entries of a directory durable, e.g. a file renamed into it.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes and syncs every pending result, then stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (io) {
+            channel.close();
+        }
+        synchronized (this) {
+            if (failure != null) {
+                throw new IOException("Results journal write failed: " + file, failure);
+            }
+        }
+    }
+}
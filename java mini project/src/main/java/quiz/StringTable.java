@@ -0,0 +1,203 @@
+package quiz;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * StringTable: A dictionary of distinct strings stored as UTF-8 bytes in one shared array,
+ * so a large question bank keeps every repeated option and explanation once and pays no
+ * String or array header per entry.
+ *
+ * Every distinct string gets a dense int id the first time it is added. Lookups hash the
+ * encoded bytes into an open-addressing table of ids, so deduplication needs no boxed keys.
+ * Strings are decoded into a new String only when asked for, usually just before display.
+ * Lookups run concurrently; adding takes a short exclusive lock.
+ */
+public final class StringTable {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private byte[] data = new byte[1024];
+    private int dataSize;
+    // Entry i occupies data[offsets[i]] up to data[offsets[i + 1]]
+    private int[] offsets = new int[17];
+    private int[] hashes = new int[16];
+    private int size;
+    // Open-addressing table of id + 1, 0 for an empty slot
+    private int[] slots = new int[32];
+
+    /**
+     * Adds a string, or finds the id it already has.
+     *
+     * @param value The string to store
+     * @return Id of the string in this table
+     */
+    public int intern(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = Arrays.hashCode(bytes);
+        lock.writeLock().lock();
+        try {
+            int mask = slots.length - 1;
+            int slot = spread(hash) & mask;
+            for (int entry; (entry = slots[slot]) != 0; slot = (slot + 1) & mask) {
+                int id = entry - 1;
+                if (hashes[id] == hash && Arrays.equals(data, offsets[id], offsets[id + 1], bytes, 0, bytes.length)) {
+                    return id;
+                }
+            }
+            return append(bytes, hash, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Decodes a string.
+     *
+     * @param id Id returned by {@link #intern(String)}
+     * @return A new String equal to the one added
+     */
+    public String get(int id) {
+        lock.readLock().lock();
+        try {
+            if (id < 0 || id >= size) {
+                throw new IndexOutOfBoundsException("No string " + id + " in a table of " + size);
+            }
+            return new String(data, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a read-only view that decodes a run of ids on access.
+     *
+     * @param ids Array holding the ids
+     * @param from Index of the first id in the array
+     * @param to Index after the last id in the array
+     * @return List of the decoded strings, backed by the array
+     */
+    List<String> list(int[] ids, int from, int to) {
+        return new DecodingList(this, ids, from, to);
+    }
+
+    /**
+     * Returns the number of distinct strings.
+     *
+     * @return Number of strings added
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes held for all strings.
+     *
+     * @return Bytes of string data
+     */
+    public long getByteCount() {
+        lock.readLock().lock();
+        try {
+            return dataSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the spare capacity left by growing, e.g. once a bank has been loaded.
+     * Adding more strings afterwards still works and grows the arrays again.
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            data = Arrays.copyOf(data, dataSize);
+            // offsets always has one more entry than hashes, so append can grow both together
+            offsets = Arrays.copyOf(offsets, size + 1);
+            hashes = Arrays.copyOf(hashes, size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== STORAGE ====================
+
+    private int append(byte[] bytes, int hash, int slot) {
+        if ((long) dataSize + bytes.length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("String table is full");
+        }
+        if (dataSize + bytes.length > data.length) {
+            data = Arrays.copyOf(data, Math.max(dataSize + bytes.length, (int) Math.min(Integer.MAX_VALUE - 8, data.length * 2L)));
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, Math.max(16, size * 2));
+            offsets = Arrays.copyOf(offsets, hashes.length + 1);
+        }
+        int id = size++;
+        System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+        dataSize += bytes.length;
+        offsets[id + 1] = dataSize;
+        hashes[id] = hash;
+        slots[slot] = id + 1;
+        // Keep the table at most half full, so probe runs stay short
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        int[] grown = new int[slots.length * 2];
+        int mask = grown.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = spread(hashes[id]) & mask;
+            while (grown[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            grown[slot] = id + 1;
+        }
+        slots = grown;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Read-only list of strings decoded from a table on every access.
+     */
+    private static final class DecodingList extends AbstractList<String> implements RandomAccess {
+        private final StringTable table;
+        private final int[] ids;
+        private final int from;
+        private final int to;
+
+        DecodingList(StringTable table, int[] ids, int from, int to) {
+            this.table = table;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (to - from));
+            }
+            return table.get(ids[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TextTemplate: A layout compiled once from a {@code String.format}-style pattern into
+ * pre-encoded literal segments and typed slots, then rendered any number of times into a Frame.
+ *
+ * Supported specifiers: {@code %s}, {@code %d} and {@code %.Nf}, each with an optional width
+ * and {@code -} for left alignment, plus {@code %%} and {@code %n}. Rendering copies the
+ * literal bytes and writes numbers digit by digit, so the only allocation is the small
+ * cursor filling the slots:
+ * <pre>
+ * SCORE.into(frame).text(name).number(correct).decimal(percentage).end();
+ * </pre>
+ * Slots are filled in pattern order; filling one with the wrong type, or ending early, throws
+ * IllegalStateException. {@link #start()} renders into a per-thread scratch frame for callers
+ * that need a String, and may be nested, e.g. while computing a slot value.
+ */
+public final class TextTemplate {
+    private static final ThreadLocal<Frame> SCRATCH = ThreadLocal.withInitial(Frame::new);
+
+    private static final byte TEXT = 's';
+    private static final byte NUMBER = 'd';
+    private static final byte DECIMAL = 'f';
+
+    private final String pattern;
+    // literals[i] comes before slot i; the last literal ends the layout
+    private final byte[][] literals;
+    private final byte[] types;
+    private final int[] widths;
+    private final boolean[] leftAligned;
+    private final int[] decimals;
+
+    private TextTemplate(String pattern, List<byte[]> literals, List<int[]> slots) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(new byte[0][]);
+        this.types = new byte[slots.size()];
+        this.widths = new int[slots.size()];
+        this.leftAligned = new boolean[slots.size()];
+        this.decimals = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            int[] slot = slots.get(i);
+            types[i] = (byte) slot[0];
+            widths[i] = slot[1];
+            leftAligned[i] = slot[2] != 0;
+            decimals[i] = slot[3];
+        }
+    }
+
+    /**
+     * Compiles a pattern.
+     *
+     * @param pattern Text with format specifiers, e.g. "Score: %3d/%d (%.1f%%)%n"
+     * @return The compiled template
+     * @throws IllegalArgumentException if the pattern has an unsupported specifier
+     */
+    public static TextTemplate compile(String pattern) {
+        List<byte[]> literals = new ArrayList<>();
+        List<int[]> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            int start = i - 1;
+            boolean left = i < pattern.length() && pattern.charAt(i) == '-';
+            if (left) {
+                i++;
+            }
+            int width = 0;
+            while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                width = width * 10 + (pattern.charAt(i++) - '0');
+            }
+            int places = -1;
+            if (i < pattern.length() && pattern.charAt(i) == '.') {
+                i++;
+                places = 0;
+                while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+                    places = places * 10 + (pattern.charAt(i++) - '0');
+                }
+            }
+            if (i == pattern.length()) {
+                throw new IllegalArgumentException("Unfinished specifier at index " + start + ": " + pattern);
+            }
+            char conversion = pattern.charAt(i++);
+            boolean plain = !left && width == 0 && places < 0;
+            if (conversion == '%' && plain) {
+                literal.append('%');
+            } else if (conversion == 'n' && plain) {
+                literal.append(System.lineSeparator());
+            } else if ((conversion == 's' || conversion == 'd') && places < 0
+                    || conversion == 'f' && places >= 0 && places <= 9) {
+                literals.add(Frame.encode(literal.toString()));
+                literal.setLength(0);
+                slots.add(new int[] {conversion, width, left ? 1 : 0, places});
+            } else {
+                throw new IllegalArgumentException("Unsupported specifier " + pattern.substring(start, i) + " in: " + pattern);
+            }
+        }
+        literals.add(Frame.encode(literal.toString()));
+        return new TextTemplate(pattern, literals, slots);
+    }
+
+    /**
+     * Starts rendering at the end of a frame.
+     *
+     * @param frame The frame to append to
+     * @return A cursor for filling the slots
+     */
+    public Fill into(Frame frame) {
+        return new Fill(this, frame, false);
+    }
+
+    /**
+     * Starts rendering into the calling thread's scratch frame; finish with {@link Fill#toText()}.
+     *
+     * @return A cursor for filling the slots
+     */
+    public Fill start() {
+        return new Fill(this, SCRATCH.get(), true);
+    }
+
+    public int getSlotCount() {
+        return types.length;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * Cursor filling the slots of one render in order.
+     */
+    public static final class Fill {
+        private final TextTemplate template;
+        private final Frame frame;
+        private final int mark;
+        private final boolean scratch;
+        private int slot;
+
+        Fill(TextTemplate template, Frame frame, boolean scratch) {
+            this.template = template;
+            this.frame = frame;
+            this.mark = frame.size();
+            this.scratch = scratch;
+            frame.append(template.literals[0]);
+        }
+
+        /**
+         * Fills a %s slot.
+         */
+        public Fill text(CharSequence value) {
+            int index = next(TEXT);
+            int padding = template.widths[index] - value.length();
+            if (padding > 0 && !template.leftAligned[index]) {
+                frame.spaces(padding);
+            }
+            frame.append(value);
+            if (padding > 0 && template.leftAligned[index]) {
+                frame.spaces(padding);
+            }
+            return literal(index);
+        }
+
+        /**
+         * Fills a %d slot.
+         */
+        public Fill number(long value) {
+            int index = next(NUMBER);
+            int start = frame.size();
+            frame.append(value);
+            return pad(index, start);
+        }
+
+        /**
+         * Fills a %.Nf slot.
+         */
+        public Fill decimal(double value) {
+            int index = next(DECIMAL);
+            int start = frame.size();
+            frame.appendDecimal(value, template.decimals[index]);
+            return pad(index, start);
+        }
+
+        /**
+         * Finishes a render started with {@link TextTemplate#into(Frame)}.
+         *
+         * @return The frame, for further appends
+         */
+        public Frame end() {
+            checkFilled();
+            return frame;
+        }
+
+        /**
+         * Finishes a render started with {@link TextTemplate#start()}.
+         *
+         * @return The rendered text
+         */
+        public String toText() {
+            checkFilled();
+            if (!scratch) {
+                throw new IllegalStateException("Only renders started with start() produce text");
+            }
+            return frame.take(mark);
+        }
+
+        private int next(byte type) {
+            if (slot == template.types.length) {
+                throw new IllegalStateException("All " + slot + " slots are already filled: " + template.pattern);
+            }
+            if (template.types[slot] != type) {
+                throw new IllegalStateException("Slot " + (slot + 1) + " is %" + (char) template.types[slot]
+                        + ", not %" + (char) type + ": " + template.pattern);
+            }
+            return slot++;
+        }
+
+        private Fill pad(int index, int start) {
+            if (template.leftAligned[index]) {
+                frame.spaces(template.widths[index] - (frame.size() - start));
+            } else {
+                frame.padStart(start, template.widths[index]);
+            }
+            return literal(index);
+        }
+
+        private Fill literal(int index) {
+            frame.append(template.literals[index + 1]);
+            return this;
+        }
+
+        private void checkFilled() {
+            if (slot < template.types.length) {
+                throw new IllegalStateException("Only " + slot + " of " + template.types.length + " slots filled: " + template.pattern);
+            }
+        }
+    }
+}